@@ -0,0 +1,161 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.db;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.travistorres.moviescout.utils.db.tables.MoviesTable;
+import com.travistorres.moviescout.utils.moviedb.models.Movie;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * CompiledStatementCacheTest
+ *
+ * Runs the table lookups against the connection shared through MoviesDatabase, which is the only
+ * connection whose statements are cached.  Every movie is written within a transaction which is
+ * rolled back so that the favorites of the installed application are left untouched.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+@RunWith(AndroidJUnit4.class)
+public class CompiledStatementCacheTest {
+    private static final String EXISTS_SQL = "SELECT EXISTS(SELECT 1 FROM " + MoviesTable.NAME +
+            " WHERE " + MoviesTable.Cols.MOVIE_ID + " = ?)";
+    private static final long RELEASE_TIMEOUT = 5000;
+
+    //  ids the server never assigns, so they cannot collide with stored favorites
+    private static final int FIRST_MOVIE_ID = -550;
+    private static final int SECOND_MOVIE_ID = -13;
+    private static final int MISSING_MOVIE_ID = -42;
+
+    private Context context;
+    private MoviesDatabase database;
+
+    @Before
+    public void getDatabase() {
+        context = InstrumentationRegistry.getTargetContext();
+        database = MoviesDatabase.getInstance(context);
+    }
+
+    @Test
+    public void compilesEachStatementOncePerConnection() {
+        SQLiteDatabase connection = database.acquireDatabase();
+        try {
+            SQLiteStatement statement = database.getCompiledStatement(connection, EXISTS_SQL);
+
+            assertNotNull(statement);
+            assertSame(statement, database.getCompiledStatement(connection, EXISTS_SQL));
+
+            //  the table finds the statement in the cache rather than compiling its own
+            new MoviesTable(context, connection).contains(createMovie(MISSING_MOVIE_ID));
+            assertSame(statement, database.getCompiledStatement(connection, EXISTS_SQL));
+        } finally {
+            database.releaseDatabase();
+        }
+    }
+
+    @Test
+    public void ignoresOtherConnections() {
+        SQLiteDatabase db = SQLiteDatabase.create(null);
+        database.acquireDatabase();
+        try {
+            assertNull(database.getCompiledStatement(db, EXISTS_SQL));
+        } finally {
+            database.releaseDatabase();
+            db.close();
+        }
+    }
+
+    @Test
+    public void rebindsTheSharedStatementForEveryLookup() {
+        SQLiteDatabase connection = database.acquireDatabase();
+        connection.beginTransaction();
+        try {
+            MoviesTable moviesTable = new MoviesTable(context, connection);
+            long firstRowId = moviesTable.save(createMovie(FIRST_MOVIE_ID), null);
+            long secondRowId = moviesTable.save(createMovie(SECOND_MOVIE_ID), null);
+
+            //  leave bindings for another movie behind on the shared statement
+            SQLiteStatement statement = database.getCompiledStatement(connection, EXISTS_SQL);
+            statement.bindString(1, Integer.toString(MISSING_MOVIE_ID));
+            assertEquals(0, statement.simpleQueryForLong());
+
+            for (int i = 0; i < 3; ++i) {
+                assertTrue(moviesTable.contains(createMovie(FIRST_MOVIE_ID)));
+                assertFalse(moviesTable.contains(createMovie(MISSING_MOVIE_ID)));
+                assertTrue(moviesTable.contains(createMovie(SECOND_MOVIE_ID)));
+
+                assertEquals(firstRowId, moviesTable.getId(createMovie(FIRST_MOVIE_ID)));
+                assertEquals(-1, moviesTable.getId(createMovie(MISSING_MOVIE_ID)));
+                assertEquals(secondRowId, moviesTable.getId(createMovie(SECOND_MOVIE_ID)));
+            }
+        } finally {
+            connection.endTransaction();
+            database.releaseDatabase();
+        }
+    }
+
+    @Test
+    public void closesTheStatementsWithTheConnection() {
+        //  the statements are only closed once nothing else in the process holds the connection
+        long deadline = SystemClock.elapsedRealtime() + RELEASE_TIMEOUT;
+        while (database.getReferenceCount() > 0 && SystemClock.elapsedRealtime() < deadline) {
+            SystemClock.sleep(50);
+        }
+        assumeTrue(database.getReferenceCount() == 0);
+
+        SQLiteDatabase connection = database.acquireDatabase();
+        SQLiteStatement statement = database.getCompiledStatement(connection, EXISTS_SQL);
+        int closeCount = database.getCloseCount();
+        database.releaseDatabase();
+
+        assertEquals(closeCount + 1, database.getCloseCount());
+        try {
+            statement.simpleQueryForLong();
+            fail("the statement was left open after the connection was closed");
+        } catch (IllegalStateException e) {
+            //  expected
+        }
+
+        SQLiteDatabase reopenedConnection = database.acquireDatabase();
+        try {
+            SQLiteStatement recompiledStatement = database.getCompiledStatement(reopenedConnection, EXISTS_SQL);
+
+            assertNotSame(statement, recompiledStatement);
+            recompiledStatement.bindString(1, Integer.toString(MISSING_MOVIE_ID));
+            assertEquals(0, recompiledStatement.simpleQueryForLong());
+        } finally {
+            database.releaseDatabase();
+        }
+    }
+
+    /**
+     * Creates a movie with only the fields the lookups use.
+     *
+     * @param movieId The id assigned to the movie by the server
+     *
+     * @return movie
+     */
+    private static Movie createMovie(int movieId) {
+        Movie movie = new Movie();
+        movie.id = movieId;
+        movie.title = "Movie " + movieId;
+
+        return movie;
+    }
+}
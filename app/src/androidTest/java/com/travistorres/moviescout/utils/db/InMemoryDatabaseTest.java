@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.db;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.support.test.InstrumentationRegistry;
+
+import com.travistorres.moviescout.utils.db.tables.MoviesTable;
+import com.travistorres.moviescout.utils.db.tables.ReviewsTable;
+import com.travistorres.moviescout.utils.db.tables.TrailersTable;
+
+import org.junit.After;
+import org.junit.Before;
+
+/**
+ * InMemoryDatabaseTest
+ *
+ * Opens an empty in-memory database before every test and closes it afterwards.  The database
+ * enforces foreign keys the same way MoviesDatabase.onConfigure does, and a test which needs the
+ * latest schema creates it with `createTables`.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public abstract class InMemoryDatabaseTest {
+    protected Context context;
+    protected SQLiteDatabase db;
+    protected MoviesTable moviesTable;
+    protected ReviewsTable reviewsTable;
+    protected TrailersTable trailersTable;
+
+    @Before
+    public void openDatabase() {
+        context = InstrumentationRegistry.getTargetContext();
+        db = SQLiteDatabase.create(null);
+        db.setForeignKeyConstraintsEnabled(true);
+    }
+
+    @After
+    public void closeDatabase() {
+        db.close();
+    }
+
+    /**
+     * Creates the tables the same way MoviesDatabase.onCreate does.
+     *
+     */
+    protected void createTables() {
+        MoviesTable.createTable(db);
+        ReviewsTable.createTable(db);
+        TrailersTable.createTable(db);
+
+        moviesTable = new MoviesTable(context, db);
+        reviewsTable = new ReviewsTable(context, db);
+        trailersTable = new TrailersTable(context, db);
+    }
+}
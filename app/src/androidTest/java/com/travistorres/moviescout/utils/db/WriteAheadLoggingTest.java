@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.db;
+
+import android.content.Context;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * WriteAheadLoggingTest
+ *
+ * Reads the favorites while a background update is in the middle of writing to them, as the
+ * favorites screen does while the favorites are being synchronized.  With write-ahead logging the
+ * read must not wait for the write to finish.  The latency of the read is written to the log
+ * along with the latency of the same read under the rollback journal for comparison.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+@RunWith(AndroidJUnit4.class)
+public class WriteAheadLoggingTest {
+    private static final String LOG_TAG = WriteAheadLoggingTest.class.getSimpleName();
+    private static final String DATABASE_NAME = "write-ahead-logging-test.db";
+    private static final long WRITE_DURATION = 2000;
+
+    private Context context;
+
+    @Before
+    public void removeDatabase() {
+        context = InstrumentationRegistry.getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @After
+    public void cleanUp() {
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Test
+    public void opensTheMoviesDatabaseWithWriteAheadLogging() {
+        MoviesDatabase database = MoviesDatabase.getInstance(context);
+        SQLiteDatabase connection = database.acquireDatabase();
+        try {
+            assertTrue(connection.isWriteAheadLoggingEnabled());
+        } finally {
+            database.releaseDatabase();
+        }
+    }
+
+    @Test
+    public void readsWhileAnUpdateIsWriting() throws InterruptedException {
+        long walLatency = measureReadDuringWrite(true);
+        context.deleteDatabase(DATABASE_NAME);
+        long journalLatency = measureReadDuringWrite(false);
+
+        Log.i(LOG_TAG, "read during a " + WRITE_DURATION + " ms write: " +
+                walLatency + " ms with write-ahead logging, " +
+                journalLatency + " ms with the rollback journal");
+
+        assertTrue("read waited " + walLatency + " ms for the write", walLatency < WRITE_DURATION);
+    }
+
+    /**
+     * Reads a table on the calling thread while another thread holds a transaction which writes
+     * to it.  The transaction is committed once the read finishes or the write duration passes.
+     *
+     * @param isWriteAheadLoggingEnabled
+     *
+     * @return time in milliseconds the read took
+     *
+     * @throws InterruptedException
+     */
+    private long measureReadDuringWrite(boolean isWriteAheadLoggingEnabled) throws InterruptedException {
+        final SQLiteDatabase db = context.openOrCreateDatabase(DATABASE_NAME, Context.MODE_PRIVATE, null);
+        try {
+            if (isWriteAheadLoggingEnabled) {
+                db.enableWriteAheadLogging();
+            }
+            db.execSQL("CREATE TABLE movies(_id INTEGER PRIMARY KEY AUTOINCREMENT, title TEXT)");
+            db.execSQL("INSERT INTO movies(title) VALUES('Fight Club')");
+
+            final CountDownLatch writeStarted = new CountDownLatch(1);
+            final CountDownLatch readFinished = new CountDownLatch(1);
+            Thread writer = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    db.beginTransaction();
+                    try {
+                        db.execSQL("UPDATE movies SET title = 'Updated'");
+                        writeStarted.countDown();
+                        readFinished.await(WRITE_DURATION, TimeUnit.MILLISECONDS);
+                        db.setTransactionSuccessful();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        db.endTransaction();
+                    }
+                }
+            });
+            writer.start();
+            writeStarted.await();
+
+            long start = SystemClock.elapsedRealtime();
+            String title = DatabaseUtils.stringForQuery(db, "SELECT title FROM movies", null);
+            long latency = SystemClock.elapsedRealtime() - start;
+            readFinished.countDown();
+            writer.join();
+
+            //  the read sees the favorites as they were before the update
+            if (isWriteAheadLoggingEnabled) {
+                assertEquals("Fight Club", title);
+            }
+
+            return latency;
+        } finally {
+            db.close();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.db.migrations;
+
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteConstraintException;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.travistorres.moviescout.utils.db.InMemoryDatabaseTest;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+/**
+ * MigrationTest
+ *
+ * Moves a database written by the first version of the application to the latest schema the same
+ * way MoviesDatabase.onUpgrade does and verifies that the favorites survive it.  Version 1 allowed
+ * the same movie to be stored twice and left reviews and trailers behind when their movie was
+ * removed, so both are part of the starting data.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+@RunWith(AndroidJUnit4.class)
+public class MigrationTest extends InMemoryDatabaseTest {
+    private static final Migration[] MIGRATIONS = new Migration[] {
+        new TypedColumnsMigration(),
+        new CascadingForeignKeysMigration()
+    };
+
+    @Before
+    public void createVersionOneDatabase() {
+        //  the untyped schema of version 1
+        db.execSQL("CREATE TABLE movies(_id INTEGER PRIMARY KEY AUTOINCREMENT, poster_path, " +
+                "is_adult_film, overview, release_date, movie_id, original_title, title, " +
+                "backdrop_path, popularity, vote_count, has_video, vote_average, original_language)");
+        db.execSQL("CREATE TABLE reviews( _id INTEGER PRIMARY KEY AUTOINCREMENT, movie_id, id, " +
+                "author, content, review_url)");
+        db.execSQL("CREATE TABLE trailers( _id INTEGER PRIMARY KEY AUTOINCREMENT, movie_id, " +
+                "iso_639_1, iso_3166_1, key, name, site, size, type)");
+
+        //  version 1 stored every value as text, including a duplicate of the same movie
+        db.execSQL("INSERT INTO movies(_id, movie_id, title, popularity, is_adult_film) VALUES(1, '550', 'Fight Club', '12.5', '0')");
+        db.execSQL("INSERT INTO movies(_id, movie_id, title, popularity, is_adult_film) VALUES(2, '550', 'Fight Club', '12.5', '0')");
+        db.execSQL("INSERT INTO movies(_id, movie_id, title, popularity, is_adult_film) VALUES(3, '13', 'Forrest Gump', '9.25', '0')");
+        db.execSQL("INSERT INTO movies(_id, movie_id, title) VALUES(4, NULL, 'Unknown')");
+
+        db.execSQL("INSERT INTO reviews(movie_id, id, author) VALUES('1', 'kept', 'first copy')");
+        db.execSQL("INSERT INTO reviews(movie_id, id, author) VALUES('2', 'duplicate', 'second copy')");
+        db.execSQL("INSERT INTO reviews(movie_id, id, author) VALUES('99', 'orphan', 'removed movie')");
+
+        db.execSQL("INSERT INTO trailers(movie_id, key, size) VALUES('3', 'kept', '1080')");
+        db.execSQL("INSERT INTO trailers(movie_id, key, size) VALUES('4', 'unknown', '720')");
+        db.execSQL("INSERT INTO trailers(movie_id, key, size) VALUES('42', 'orphan', '480')");
+    }
+
+    @Test
+    public void keepsTheFirstCopyOfEveryMovie() {
+        migrate(1, 3);
+
+        assertEquals(2, longFor("SELECT COUNT(*) FROM movies"));
+        assertEquals(1, longFor("SELECT _id FROM movies WHERE movie_id = 550"));
+        assertEquals(3, longFor("SELECT _id FROM movies WHERE movie_id = 13"));
+    }
+
+    @Test
+    public void convertsValuesToTheirColumnTypes() {
+        migrate(1, 3);
+
+        assertEquals("integer", string("SELECT typeof(movie_id) FROM movies WHERE _id = 1"));
+        assertEquals("real", string("SELECT typeof(popularity) FROM movies WHERE _id = 1"));
+        assertEquals("integer", string("SELECT typeof(is_adult_film) FROM movies WHERE _id = 1"));
+        assertEquals("integer", string("SELECT typeof(movie_id) FROM reviews"));
+        assertEquals("integer", string("SELECT typeof(size) FROM trailers"));
+    }
+
+    @Test
+    public void dropsReviewsAndTrailersWithoutAMovie() {
+        migrate(1, 3);
+
+        assertEquals(1, longFor("SELECT COUNT(*) FROM reviews"));
+        assertEquals("kept", string("SELECT id FROM reviews WHERE movie_id = 1"));
+        assertEquals(1, longFor("SELECT COUNT(*) FROM trailers"));
+        assertEquals("kept", string("SELECT key FROM trailers WHERE movie_id = 3"));
+    }
+
+    @Test
+    public void removesRowsLeftBehindByTheUpgrade() {
+        migrate(1, 3);
+
+        assertEquals(0, longFor("SELECT COUNT(*) FROM sqlite_master WHERE name LIKE '%\\_v_' ESCAPE '\\'"));
+    }
+
+    @Test(expected = SQLiteConstraintException.class)
+    public void rejectsADuplicateMovieOnceMigrated() {
+        migrate(1, 3);
+
+        db.execSQL("INSERT INTO movies(movie_id) VALUES(550)");
+    }
+
+    @Test
+    public void removesTheReviewsAndTrailersOfAMigratedMovie() {
+        migrate(1, 3);
+
+        db.execSQL("DELETE FROM movies WHERE movie_id = 550");
+        db.execSQL("DELETE FROM movies WHERE movie_id = 13");
+
+        assertEquals(0, longFor("SELECT COUNT(*) FROM reviews"));
+        assertEquals(0, longFor("SELECT COUNT(*) FROM trailers"));
+    }
+
+    @Test
+    public void upgradesFromVersionTwo() {
+        migrate(1, 2);
+        migrate(2, 3);
+
+        assertEquals(2, longFor("SELECT COUNT(*) FROM movies"));
+        assertEquals(1, longFor("SELECT COUNT(*) FROM reviews"));
+        assertEquals(1, longFor("SELECT COUNT(*) FROM trailers"));
+    }
+
+    /**
+     * Runs the migrations within a transaction as SQLiteOpenHelper does during an upgrade.
+     *
+     * @param previous
+     * @param latest
+     */
+    private void migrate(int previous, int latest) {
+        db.beginTransaction();
+        try {
+            Migration.migrate(db, MIGRATIONS, previous, latest);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    private long longFor(String sql) {
+        return DatabaseUtils.longForQuery(db, sql, null);
+    }
+
+    private String string(String sql) {
+        return DatabaseUtils.stringForQuery(db, sql, null);
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.db.tables;
+
+import android.database.Cursor;
+import android.os.SystemClock;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import com.travistorres.moviescout.utils.db.InMemoryDatabaseTest;
+import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.moviedb.models.Review;
+import com.travistorres.moviescout.utils.moviedb.models.Trailer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+/**
+ * BaseTableLookupTest
+ *
+ * Verifies the existence checks and single column lookups which the tables run as compiled
+ * statements instead of reading whole rows through a cursor.  The time taken by both approaches
+ * is written to the log for comparison between devices.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+@RunWith(AndroidJUnit4.class)
+public class BaseTableLookupTest extends InMemoryDatabaseTest {
+    private static final String LOG_TAG = BaseTableLookupTest.class.getSimpleName();
+    private static final int LOOKUP_COUNT = 1000;
+
+    @Before
+    public void createDatabase() {
+        createTables();
+    }
+
+    @Test
+    public void findsStoredMovies() {
+        Movie movie = createMovie(550);
+        assertFalse(moviesTable.contains(movie));
+
+        moviesTable.save(movie, null);
+
+        assertTrue(moviesTable.contains(movie));
+        assertFalse(moviesTable.contains(createMovie(13)));
+    }
+
+    @Test
+    public void findsStoredReviewsAndTrailers() {
+        String rowId = Long.toString(moviesTable.save(createMovie(550), null));
+
+        Review review = new Review();
+        review.id = "review";
+        review.movieId = rowId;
+        Trailer trailer = new Trailer();
+        trailer.key = "trailer";
+        trailer.movieId = rowId;
+        assertFalse(reviewsTable.contains(review));
+        assertFalse(trailersTable.contains(trailer));
+
+        reviewsTable.save(review, null);
+        trailersTable.save(trailer, null);
+
+        assertTrue(reviewsTable.contains(review));
+        assertTrue(trailersTable.contains(trailer));
+    }
+
+    @Test
+    public void checksForAnyRowWithoutASelection() {
+        assertFalse(moviesTable.doesExistsInDatabase(null, null));
+
+        moviesTable.save(createMovie(550), null);
+
+        assertTrue(moviesTable.doesExistsInDatabase(null, null));
+    }
+
+    @Test
+    public void readsTheRowIdOfAMovie() {
+        moviesTable.save(createMovie(13), null);
+        long rowId = moviesTable.save(createMovie(550), null);
+
+        assertEquals(rowId, moviesTable.getId(createMovie(550)));
+        assertEquals(-1, moviesTable.getId(createMovie(42)));
+    }
+
+    @Test
+    public void reusesLookupsAcrossArguments() {
+        moviesTable.save(createMovie(550), null);
+
+        //  the same statement is bound with different arguments every time
+        for (int i = 0; i < 3; ++i) {
+            assertTrue(moviesTable.contains(createMovie(550)));
+            assertFalse(moviesTable.contains(createMovie(13)));
+        }
+    }
+
+    @Test
+    public void measuresLookupsAgainstReadingWholeRows() {
+        Movie movie = createMovie(550);
+        moviesTable.save(movie, null);
+
+        long start = SystemClock.elapsedRealtimeNanos();
+        for (int i = 0; i < LOOKUP_COUNT; ++i) {
+            moviesTable.getId(movie);
+        }
+        long lookupTime = SystemClock.elapsedRealtimeNanos() - start;
+
+        //  the lookup as it was performed before, reading every column into a cursor
+        start = SystemClock.elapsedRealtimeNanos();
+        for (int i = 0; i < LOOKUP_COUNT; ++i) {
+            Cursor cursor = db.query(MoviesTable.NAME, null, MoviesTable.Cols.MOVIE_ID + " = ?", new String[] {"550"}, null, null, null);
+            cursor.moveToFirst();
+            cursor.getLong(cursor.getColumnIndex("_id"));
+            cursor.close();
+        }
+        long cursorTime = SystemClock.elapsedRealtimeNanos() - start;
+
+        Log.i(LOG_TAG, LOOKUP_COUNT + " row id lookups: " +
+                lookupTime / 1000 + " us with a statement, " +
+                cursorTime / 1000 + " us with a cursor");
+    }
+
+    /**
+     * Creates a movie with a long overview, as the server sends them.
+     *
+     * @param movieId The id assigned to the movie by the server
+     *
+     * @return movie
+     */
+    private static Movie createMovie(int movieId) {
+        Movie movie = new Movie();
+        movie.id = movieId;
+        movie.title = "Movie " + movieId;
+        movie.overview = new String(new char[2000]).replace('\0', 'o');
+
+        return movie;
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.db.tables;
+
+import android.database.DatabaseUtils;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.travistorres.moviescout.utils.db.InMemoryDatabaseTest;
+import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.moviedb.models.Review;
+import com.travistorres.moviescout.utils.moviedb.models.Trailer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+/**
+ * CascadingDeleteTest
+ *
+ * Verifies that the database removes the reviews and trailers of a favorite along with it, which
+ * the favorites rely on instead of deleting them one table at a time.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+@RunWith(AndroidJUnit4.class)
+public class CascadingDeleteTest extends InMemoryDatabaseTest {
+    @Before
+    public void createDatabase() {
+        createTables();
+    }
+
+    @Test
+    public void removesTheReviewsAndTrailersOfAMovie() {
+        Movie movie = saveMovie(550, 2, 3);
+
+        assertEquals(1, moviesTable.delete(movie));
+
+        assertEquals(0, count(ReviewsTable.NAME));
+        assertEquals(0, count(TrailersTable.NAME));
+    }
+
+    @Test
+    public void keepsTheReviewsAndTrailersOfOtherMovies() {
+        Movie removedMovie = saveMovie(550, 2, 3);
+        saveMovie(13, 1, 4);
+
+        moviesTable.delete(removedMovie);
+
+        assertEquals(1, count(MoviesTable.NAME));
+        assertEquals(1, count(ReviewsTable.NAME));
+        assertEquals(4, count(TrailersTable.NAME));
+    }
+
+    @Test
+    public void rejectsAReviewWithoutAMovie() {
+        Review review = new Review();
+        review.id = "orphan";
+        review.movieId = "42";
+
+        assertEquals(-1, reviewsTable.save(review, null));
+        assertEquals(0, count(ReviewsTable.NAME));
+    }
+
+    @Test
+    public void rejectsATrailerWithoutAMovie() {
+        Trailer trailer = new Trailer();
+        trailer.key = "orphan";
+        trailer.movieId = "42";
+
+        assertEquals(-1, trailersTable.save(trailer, null));
+        assertEquals(0, count(TrailersTable.NAME));
+    }
+
+    /**
+     * Stores a movie along with a number of reviews and trailers.
+     *
+     * @param movieId The id assigned to the movie by the server
+     * @param reviewCount
+     * @param trailerCount
+     *
+     * @return The stored movie
+     */
+    private Movie saveMovie(int movieId, int reviewCount, int trailerCount) {
+        Movie movie = new Movie();
+        movie.id = movieId;
+        movie.title = "Movie " + movieId;
+        String rowId = Long.toString(moviesTable.save(movie, null));
+
+        for (int i = 0; i < reviewCount; ++i) {
+            Review review = new Review();
+            review.id = movieId + "-review-" + i;
+            review.movieId = rowId;
+            assertNotEquals(-1, reviewsTable.save(review, null));
+        }
+        for (int i = 0; i < trailerCount; ++i) {
+            Trailer trailer = new Trailer();
+            trailer.key = movieId + "-trailer-" + i;
+            trailer.movieId = rowId;
+            assertNotEquals(-1, trailersTable.save(trailer, null));
+        }
+
+        return movie;
+    }
+
+    private long count(String tableName) {
+        return DatabaseUtils.queryNumEntries(db, tableName);
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.db.tables;
+
+import android.database.Cursor;
+import android.os.SystemClock;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import com.travistorres.moviescout.utils.db.InMemoryDatabaseTest;
+import com.travistorres.moviescout.utils.moviedb.models.Movie;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+/**
+ * FavoriteLookupBenchmarkTest
+ *
+ * Looks up favorites by their movie id within a table of 10,000 movies.  The lookups must be
+ * answered by the movie id index rather than by scanning the table.  The time taken with and
+ * without the index is written to the log for comparison between devices.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+@RunWith(AndroidJUnit4.class)
+public class FavoriteLookupBenchmarkTest extends InMemoryDatabaseTest {
+    private static final String LOG_TAG = FavoriteLookupBenchmarkTest.class.getSimpleName();
+    private static final int MOVIE_COUNT = 10000;
+    private static final int LOOKUP_COUNT = 1000;
+
+    @Before
+    public void createFavorites() {
+        createTables();
+
+        db.beginTransaction();
+        try {
+            Movie movie = new Movie();
+            for (int i = 0; i < MOVIE_COUNT; ++i) {
+                movie.id = i;
+                movie.title = "Movie " + i;
+                movie.overview = "An overview which is about as long as the ones sent by the server.";
+                moviesTable.save(movie, null);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    @Test
+    public void looksUpFavoritesWithTheMovieIdIndex() {
+        String plan = getQueryPlan("SELECT 1 FROM " + MoviesTable.NAME + " WHERE " + MoviesTable.Cols.MOVIE_ID + " = ?");
+
+        assertTrue(plan, plan.contains(MoviesTable.MOVIE_ID_INDEX));
+    }
+
+    @Test
+    public void measuresLookupsWithAndWithoutTheIndex() {
+        long indexedTime = timeLookups();
+
+        db.execSQL("DROP INDEX " + MoviesTable.MOVIE_ID_INDEX);
+        long scanningTime = timeLookups();
+
+        Log.i(LOG_TAG, LOOKUP_COUNT + " lookups in " + MOVIE_COUNT + " movies: " +
+                indexedTime / 1000 + " us with the index, " +
+                scanningTime / 1000 + " us without it");
+    }
+
+    /**
+     * Looks up movies spread across the whole table.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    private long timeLookups() {
+        Movie movie = new Movie();
+        long start = SystemClock.elapsedRealtimeNanos();
+        for (int i = 0; i < LOOKUP_COUNT; ++i) {
+            movie.id = (int) ((long) i * MOVIE_COUNT / LOOKUP_COUNT);
+            assertTrue(moviesTable.contains(movie));
+        }
+
+        return SystemClock.elapsedRealtimeNanos() - start;
+    }
+
+    /**
+     * Describes how SQLite will run a query.
+     *
+     * @param sql
+     *
+     * @return every step of the plan
+     */
+    private String getQueryPlan(String sql) {
+        StringBuilder plan = new StringBuilder();
+        Cursor cursor = db.rawQuery("EXPLAIN QUERY PLAN " + sql, new String[] {"1"});
+        while (cursor.moveToNext()) {
+            plan.append(cursor.getString(cursor.getColumnIndex("detail"))).append('\n');
+        }
+        cursor.close();
+
+        return plan.toString();
+    }
+}
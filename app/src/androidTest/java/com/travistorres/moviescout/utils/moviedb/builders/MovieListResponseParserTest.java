@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.moviedb.builders;
+
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.moviedb.models.MoviePage;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import static org.junit.Assert.*;
+
+/**
+ * MovieListResponseParserTest
+ *
+ * Reads pages of movies shaped like the responses of the movie db server, including movies whose
+ * fields are null or missing as the server returns for incomplete listings.  Values of the wrong
+ * type must be reported as an IOException, which the callers handle.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+@RunWith(AndroidJUnit4.class)
+public class MovieListResponseParserTest {
+    private MovieListResponseParser parser;
+
+    @Before
+    public void createParser() {
+        parser = new MovieListResponseParser(InstrumentationRegistry.getTargetContext());
+    }
+
+    @Test
+    public void readsEveryField() throws IOException {
+        MoviePage page = parse("{\"page\":2,\"results\":[{" +
+                "\"poster_path\":\"/poster.jpg\",\"adult\":false,\"overview\":\"Overview\"," +
+                "\"release_date\":\"1999-10-15\",\"genre_ids\":[18,53],\"id\":550," +
+                "\"original_title\":\"Fight Club\",\"original_language\":\"en\"," +
+                "\"title\":\"Fight Club\",\"backdrop_path\":\"/backdrop.jpg\",\"popularity\":12.5," +
+                "\"vote_count\":9000,\"video\":true,\"vote_average\":8.3}]," +
+                "\"total_results\":40,\"total_pages\":2}");
+
+        assertEquals(2, page.page);
+        assertEquals(2, page.totalPages);
+        assertEquals(40, page.totalResults);
+        assertEquals(1, page.movies.length);
+
+        Movie movie = page.movies[0];
+        assertEquals(550, movie.id);
+        assertEquals("poster.jpg", movie.posterPath);
+        assertEquals("backdrop.jpg", movie.backdropPath);
+        assertEquals("Overview", movie.overview);
+        assertEquals("1999-10-15", movie.releaseDate);
+        assertEquals("Fight Club", movie.title);
+        assertEquals("Fight Club", movie.originalTitle);
+        assertEquals("en", movie.originalLanguage);
+        assertEquals(12.5, movie.popularity, 0);
+        assertEquals(8.3, movie.voteAverage, 0);
+        assertEquals(9000, movie.voteCount);
+        assertTrue(movie.hasVideo);
+        assertFalse(movie.isAdultFilm);
+    }
+
+    @Test
+    public void leavesNullFieldsAtTheirDefaults() throws IOException {
+        MoviePage page = parse("{\"page\":1,\"results\":[{" +
+                "\"poster_path\":null,\"adult\":null,\"overview\":null,\"release_date\":null," +
+                "\"genre_ids\":null,\"id\":13,\"original_title\":null,\"original_language\":null," +
+                "\"title\":\"Forrest Gump\",\"backdrop_path\":null,\"popularity\":null," +
+                "\"vote_count\":null,\"video\":null,\"vote_average\":null}]," +
+                "\"total_results\":1,\"total_pages\":1}");
+
+        Movie movie = page.movies[0];
+        assertEquals(13, movie.id);
+        assertEquals("Forrest Gump", movie.title);
+        assertNull(movie.posterPath);
+        assertNull(movie.backdropPath);
+        assertNull(movie.overview);
+        assertNull(movie.releaseDate);
+        assertNull(movie.originalTitle);
+        assertNull(movie.originalLanguage);
+        assertEquals(0, movie.popularity, 0);
+        assertEquals(0, movie.voteAverage, 0);
+        assertEquals(0, movie.voteCount);
+        assertFalse(movie.hasVideo);
+        assertFalse(movie.isAdultFilm);
+    }
+
+    @Test
+    public void leavesMissingFieldsAtTheirDefaults() throws IOException {
+        MoviePage page = parse("{\"results\":[{\"id\":7},{\"id\":8,\"unknown\":{\"nested\":[1,2]}}]}");
+
+        assertEquals(2, page.movies.length);
+        assertEquals(7, page.movies[0].id);
+        assertNull(page.movies[0].posterPath);
+        assertEquals(8, page.movies[1].id);
+        assertEquals(-1, page.page);
+        assertEquals(-1, page.totalPages);
+        assertEquals(-1, page.totalResults);
+    }
+
+    @Test
+    public void readsAnEmptyPage() throws IOException {
+        MoviePage page = parse("{\"page\":1,\"results\":[],\"total_results\":0,\"total_pages\":0}");
+
+        assertEquals(0, page.movies.length);
+    }
+
+    @Test
+    public void returnsNullWithoutResults() throws IOException {
+        assertNull(parse("{\"status_code\":7,\"status_message\":\"Invalid API key\"}"));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsResultsWhichAreNotAnArray() throws IOException {
+        parse("{\"page\":1,\"results\":{\"id\":550},\"total_results\":1,\"total_pages\":1}");
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsAnIdWhichIsNotANumber() throws IOException {
+        parse("{\"page\":1,\"results\":[{\"id\":\"fight-club\",\"title\":\"Fight Club\"}]}");
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsAPageWhichIsNotANumber() throws IOException {
+        parse("{\"page\":\"two\",\"results\":[]}");
+    }
+
+    private MoviePage parse(String json) throws IOException {
+        return parser.parse(new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))));
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking;
+
+import android.content.Context;
+import android.net.Uri;
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import com.travistorres.moviescout.R;
+import com.travistorres.moviescout.utils.moviedb.MovieSortType;
+import com.travistorres.moviescout.utils.moviedb.models.Movie;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+/**
+ * UrlManagerTest
+ *
+ * Compares the addresses formed from the precomputed templates against the addresses which a
+ * Uri.Builder forms from the same resources, which is how every address used to be formed.  The
+ * time taken to form a poster address both ways is written to the log.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+@RunWith(AndroidJUnit4.class)
+public class UrlManagerTest {
+    private static final String LOG_TAG = UrlManagerTest.class.getSimpleName();
+    private static final String API_KEY = "key with spaces&symbols";
+    private static final String POSTER = "poster.jpg";
+    private static final int ITERATION_COUNT = 10000;
+
+    private Context context;
+    private UrlManager urlManager;
+
+    @Before
+    public void createUrlManager() {
+        context = InstrumentationRegistry.getTargetContext();
+        urlManager = UrlManager.getInstance(context);
+    }
+
+    @Test
+    public void returnsTheSharedInstance() {
+        assertSame(urlManager, UrlManager.getInstance(context));
+    }
+
+    @Test
+    public void formsPosterAndBackdropAddresses() {
+        String defaultSize = context.getString(R.string.tmdb_image_size_default);
+        String backdropSize = context.getString(R.string.tmdb_image_size_1280);
+
+        assertEquals(buildImageUri(POSTER, defaultSize), urlManager.getMoviePosterUrlString(POSTER));
+        assertEquals(buildImageUri(POSTER, "w92"), urlManager.getMoviePosterUrlString(POSTER, "w92"));
+        assertEquals(buildImageUri(POSTER, backdropSize), urlManager.getMovieBackdropUrlString(POSTER));
+        assertEquals(buildImageUri(POSTER, defaultSize), urlManager.getMoviePosterUrl(POSTER).toString());
+    }
+
+    @Test
+    public void formsMovieAddresses() {
+        Movie movie = new Movie();
+        movie.id = 550;
+        String appendedResponses = context.getString(R.string.movie_db_api_trailer_action) +
+                context.getString(R.string.movie_db_api_append_to_response_separator) +
+                context.getString(R.string.movie_db_api_reviews_action);
+
+        Uri movieUri = buildApiUri(Integer.toString(movie.id))
+                .appendQueryParameter(context.getString(R.string.movie_db_api_key_query_key), API_KEY)
+                .build();
+        Uri detailsUri = movieUri.buildUpon()
+                .appendQueryParameter(context.getString(R.string.movie_db_api_append_to_response_query_key), appendedResponses)
+                .build();
+
+        assertEquals(movieUri.toString(), urlManager.getMovieUrl(movie, API_KEY).toString());
+        assertEquals(detailsUri.toString(), urlManager.getMovieDetailsUrl(movie, API_KEY).toString());
+    }
+
+    @Test
+    public void formsSortedListAddresses() {
+        assertEquals(buildListUri(R.string.movie_db_api_popular_movie_sort_action, 3),
+                urlManager.getSortedMoveListUrl(MovieSortType.MOST_POPULAR, 3, API_KEY).toString());
+        assertEquals(buildListUri(R.string.movie_db_api_top_rating_sort_action, 1),
+                urlManager.getSortedMoveListUrl(MovieSortType.HIGHEST_RATED, 1, API_KEY).toString());
+    }
+
+    @Test
+    public void measuresPosterAddressesAgainstUriBuilder() {
+        String defaultSize = context.getString(R.string.tmdb_image_size_default);
+
+        long start = SystemClock.elapsedRealtimeNanos();
+        for (int i = 0; i < ITERATION_COUNT; ++i) {
+            urlManager.getMoviePosterUrlString(POSTER);
+        }
+        long templateTime = SystemClock.elapsedRealtimeNanos() - start;
+
+        start = SystemClock.elapsedRealtimeNanos();
+        for (int i = 0; i < ITERATION_COUNT; ++i) {
+            buildImageUri(POSTER, defaultSize);
+        }
+        long builderTime = SystemClock.elapsedRealtimeNanos() - start;
+
+        Log.i(LOG_TAG, "poster address: " +
+                templateTime / ITERATION_COUNT + " ns from the template, " +
+                builderTime / ITERATION_COUNT + " ns from the resources with a Uri.Builder");
+    }
+
+    /**
+     * Forms an image address the way it was formed before the templates.  The scheme is lower
+     * cased since the templates normalize it.
+     *
+     * @param resourceName
+     * @param size
+     *
+     * @return image address
+     */
+    private String buildImageUri(String resourceName, String size) {
+        return new Uri.Builder()
+                .scheme(context.getString(R.string.tmdb_uri_scheme).toLowerCase(Locale.US))
+                .authority(context.getString(R.string.tmdb_uri_domain))
+                .appendPath(context.getString(R.string.tmdb_uri_image_host_path_one))
+                .appendPath(context.getString(R.string.tmdb_uri_image_host_path_two))
+                .appendPath(size)
+                .appendPath(resourceName)
+                .build()
+                .toString();
+    }
+
+    /**
+     * Starts an address of the movie db api the way it was formed before the templates.
+     *
+     * @param action The path following the movie request
+     *
+     * @return builder of the address
+     */
+    private Uri.Builder buildApiUri(String action) {
+        return new Uri.Builder()
+                .scheme(context.getString(R.string.movie_db_api_uri_scheme).toLowerCase(Locale.US))
+                .authority(context.getString(R.string.movie_db_api_uri_domain))
+                .appendPath(context.getString(R.string.movie_db_api_v3_identifier))
+                .appendPath(context.getString(R.string.movie_db_api_movie_request_action))
+                .appendPath(action);
+    }
+
+    /**
+     * Forms the address of a page of sorted movies the way it was formed before the templates.
+     *
+     * @param sortActionId
+     * @param page
+     *
+     * @return list address
+     */
+    private String buildListUri(int sortActionId, int page) {
+        return buildApiUri(context.getString(sortActionId))
+                .appendQueryParameter(context.getString(R.string.movie_db_api_key_query_key), API_KEY)
+                .appendQueryParameter(context.getString(R.string.movie_db_api_page_query_key), Integer.toString(page))
+                .build()
+                .toString();
+    }
+}
@@ -31,6 +31,7 @@ import com.travistorres.moviescout.utils.moviedb.MovieSortType;
 import com.travistorres.moviescout.utils.moviedb.interfaces.MovieClickedListener;
 import com.travistorres.moviescout.utils.moviedb.adapters.MovieListAdapter;
 import com.travistorres.moviescout.utils.moviedb.interfaces.MovieDbNetworkingErrorHandler;
+import com.travistorres.moviescout.utils.moviedb.interfaces.MovieListScrollHandler;
 import com.travistorres.moviescout.utils.moviedb.models.Movie;
 import com.travistorres.moviescout.utils.networking.broadcast_receivers.NetworkConnectionBroadcastReceiver;
 import com.travistorres.moviescout.utils.networking.interfaces.NetworkConnectivityInterface;
@@ -49,7 +50,7 @@ import com.travistorres.moviescout.utils.networking.interfaces.NetworkConnectivi
  */
 
 public class MainActivity extends AppCompatActivity
-        implements MovieClickedListener, MovieDbNetworkingErrorHandler, SharedPreferences.OnSharedPreferenceChangeListener, NetworkConnectivityInterface {
+        implements MovieClickedListener, MovieDbNetworkingErrorHandler, SharedPreferences.OnSharedPreferenceChangeListener, NetworkConnectivityInterface, MovieListScrollHandler {
     private boolean areMenuItemsVisible;
     private BroadcastReceiver networkBroadcastReceiver;
     private GridLayoutManager mMovieLayoutManager;
@@ -134,6 +135,7 @@ public class MainActivity extends AppCompatActivity
         //  determine if the screen needs to be constructed or if a previous state exists
         mMovieRequester = new MovieDbRequester(this, this, this);
         mMovieRequester.setVersionThreeApiKey(movieDbApiThreeKey);
+        mMovieRequester.setScrollHandler(this);
         String mainActivityStateExtra = getString(R.string.main_activity_state_bundle);
         if (savedInstanceState != null && savedInstanceState.containsKey(mainActivityStateExtra)) {
             //  load the previously loaded movies and display the results
@@ -245,6 +247,9 @@ public class MainActivity extends AppCompatActivity
     protected void onDestroy() {
         super.onDestroy();
 
+        //  pages which are still being requested are no longer needed
+        mMovieRequester.release();
+
         //  stop listening to changes in preferences
         SharedPreferences sharedPreferences = PreferenceManager.getDefaultSharedPreferences(this);
         sharedPreferences.unregisterOnSharedPreferenceChangeListener(this);
@@ -297,17 +302,35 @@ public class MainActivity extends AppCompatActivity
     }
 
     /**
-     * Sorts movies and updates the list.
+     * Sorts movies and updates the list.  The movies currently displayed remain until the new
+     * list has been received or restored from memory.
      *
      * @param sortType
      */
     private void sortMovies(MovieSortType sortType) {
-        mMovieRequester = new MovieDbRequester(this, this, this);
-        mMovieRequester.setVersionThreeApiKey(movieDbApiThreeKey);
-        mMovieRequester.setSortType(sortType);
-        setupMovieView();
-        mMovieRequester.reset();
-        mMovieRequester.requestNext();
+        mMovieRequester.changeSortType(sortType);
+    }
+
+    /**
+     * Retrieves the position of the first movie which is visible in the grid.
+     *
+     * @return adapter position of the first visible movie
+     */
+    @Override
+    public int getScrollPosition() {
+        int position = mMovieLayoutManager.findFirstVisibleItemPosition();
+
+        return position == RecyclerView.NO_POSITION ? 0 : position;
+    }
+
+    /**
+     * Scrolls the grid so that the movie at the given position is the first one displayed.
+     *
+     * @param position
+     */
+    @Override
+    public void scrollToPosition(int position) {
+        mMovieLayoutManager.scrollToPositionWithOffset(position, 0);
     }
 
     /**
@@ -329,6 +352,9 @@ public class MainActivity extends AppCompatActivity
      */
     @Override
     public void onClick(Movie clickedMovie) {
+        //  the backdrop downloads while the next page is being created
+        clickedMovie.prefetchBackdrop(this);
+
         Context context = this;
         Class movieInfoPage = MovieInfoActivity.class;
         String selectedMovieExtraKey = getString(R.string.selected_movie_extra_key);
@@ -24,14 +24,15 @@ import android.widget.TextView;
 import android.widget.Toast;
 
 import com.travistorres.moviescout.utils.DateConversionUtility;
+import com.travistorres.moviescout.utils.db.FavoriteMovieIds;
 import com.travistorres.moviescout.utils.widget.loaders.IsFavoriteMovieLoaderTask;
 import com.travistorres.moviescout.utils.moviedb.adapters.ReviewListAdapter;
 import com.travistorres.moviescout.utils.moviedb.adapters.TrailerListAdapter;
 import com.travistorres.moviescout.utils.moviedb.interfaces.MovieDbNetworkingErrorHandler;
 import com.travistorres.moviescout.utils.moviedb.interfaces.TrailerClickedListener;
-import com.travistorres.moviescout.utils.moviedb.loaders.ReviewLoaderTask;
-import com.travistorres.moviescout.utils.moviedb.loaders.TrailerLoaderTask;
+import com.travistorres.moviescout.utils.moviedb.loaders.MovieDetailsLoaderTask;
 import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.moviedb.models.MovieDetails;
 import com.travistorres.moviescout.utils.moviedb.models.Review;
 import com.travistorres.moviescout.utils.moviedb.models.Trailer;
 import com.travistorres.moviescout.utils.widget.buttons.FavoriteButton;
@@ -118,20 +119,14 @@ public class MovieInfoActivity extends AppCompatActivity
             layout.setTitle(selectedMovie.title);
 
             //  display information regarding the video
-            mMovieLanguage.setText(selectedMovie.originalLanguage);
-            mMovieOverview.setText(selectedMovie.overview);
-            mMoviePopularity.setText(Double.toString(selectedMovie.popularity));
-            mMovieReleaseDate.setText(DateConversionUtility.convertNumericalDateToFullDate(this, selectedMovie.releaseDate));
-            mMovieTitle.setText(selectedMovie.originalTitle);
-            mMovieVoteAverage.setText(Double.toString(selectedMovie.voteAverage));
+            displayMovieInformation(selectedMovie);
             retrieveBackdrop(selectedMovie);
             retrievePoster(selectedMovie);
 
-            //  load the selected movies trailers
+            //  load the latest details along with the trailers and reviews in a single request
             setupTrailerRecyclerView();
-            loadMovieTrailers(selectedMovieExtraKey, selectedMovie);
             setupReviewRecyclerView();
-            loadMovieReviews(selectedMovieExtraKey, selectedMovie);
+            loadMovieDetails(selectedMovieExtraKey, selectedMovie);
         } else {
             //  display an error message when a movie is not defined within the intent.  Should never occur.
             Log.e(LOG_TAG, getString(R.string.movie_info_activity_missing_movie_message));
@@ -140,12 +135,33 @@ public class MovieInfoActivity extends AppCompatActivity
         }
     }
 
+    /**
+     * Displays the meta-data of a movie.
+     *
+     * @param movie
+     */
+    private void displayMovieInformation(Movie movie) {
+        mMovieLanguage.setText(movie.originalLanguage);
+        mMovieOverview.setText(movie.overview);
+        mMoviePopularity.setText(Double.toString(movie.popularity));
+        mMovieReleaseDate.setText(DateConversionUtility.convertNumericalDateToFullDate(this, movie.releaseDate));
+        mMovieTitle.setText(movie.originalTitle);
+        mMovieVoteAverage.setText(Double.toString(movie.voteAverage));
+    }
+
     /**
      * Triggers the process of determining if the selected Movie is one of the users favorites.
+     * The button is displayed immediately when the favorite movie ids are already in memory.
      *
      * @param movie
      */
     private void determineIfMovieIsFavorited(Movie movie) {
+        FavoriteMovieIds favoriteMovieIds = FavoriteMovieIds.getInstance(this);
+        if (favoriteMovieIds.isLoaded()) {
+            onDeterminedIsMovieFavorited(movie, favoriteMovieIds.contains(movie.id));
+            return;
+        }
+
         String selectedMovieKey = getString(R.string.selected_movie_extra_key);
         configureLoaderWithSelectedMovieBundle(selectedMovieKey, movie, R.integer.is_movie_favorited_loader_manager_id);
     }
@@ -158,8 +174,7 @@ public class MovieInfoActivity extends AppCompatActivity
     protected void onDestroy() {
         super.onDestroy();
 
-        destroyMovieTrailerLoader();
-        destroyReviewLoader();
+        destroyMovieDetailsLoader();
     }
 
     /**
@@ -185,23 +200,13 @@ public class MovieInfoActivity extends AppCompatActivity
     }
 
     /**
-     * Request that reviews be loaded for the movie.
-     *
-     * @param movieBundleExtraKey
-     * @param movie
-     */
-    private void loadMovieReviews(String movieBundleExtraKey, Movie movie) {
-        configureLoaderWithSelectedMovieBundle(movieBundleExtraKey, movie, R.integer.movie_review_requester_loader_manager_id);
-    }
-
-    /**
-     * Request the trailers from the server
+     * Request the details, trailers and reviews of the movie from the server.
      *
      * @param movieBundleExtraKey
      * @param movie
      */
-    private void loadMovieTrailers(String movieBundleExtraKey, Movie movie) {
-        configureLoaderWithSelectedMovieBundle(movieBundleExtraKey, movie, R.integer.movie_trailer_requester_loader_manager_id);
+    private void loadMovieDetails(String movieBundleExtraKey, Movie movie) {
+        configureLoaderWithSelectedMovieBundle(movieBundleExtraKey, movie, R.integer.movie_details_loader_manager_id);
     }
 
     /**
@@ -233,19 +238,11 @@ public class MovieInfoActivity extends AppCompatActivity
     }
 
     /**
-     * Destroys any threads that are being used to load Movie Trailers.
+     * Destroys any threads that are being used to load the details of the Movie.
      *
      */
-    private void destroyMovieTrailerLoader() {
-        destroyLoader(R.integer.movie_trailer_requester_loader_manager_id);
-    }
-
-    /**
-     * Destroys any threads used for loading of reviews.
-     *
-     */
-    private void destroyReviewLoader() {
-        destroyLoader(R.integer.movie_review_requester_loader_manager_id);
+    private void destroyMovieDetailsLoader() {
+        destroyLoader(R.integer.movie_details_loader_manager_id);
     }
 
     /**
@@ -300,10 +297,8 @@ public class MovieInfoActivity extends AppCompatActivity
     public Loader onCreateLoader(int id, final Bundle args) {
         Resources resources = getResources();
         Loader loader = null;
-        if (id == resources.getInteger(R.integer.movie_trailer_requester_loader_manager_id)) {
-            loader = new TrailerLoaderTask(this, args, this, movieDbApiThreeKey);
-        } else if (id == resources.getInteger(R.integer.movie_review_requester_loader_manager_id)) {
-            loader = new ReviewLoaderTask(this, args, this, movieDbApiThreeKey);
+        if (id == resources.getInteger(R.integer.movie_details_loader_manager_id)) {
+            loader = new MovieDetailsLoaderTask(this, args, this, movieDbApiThreeKey);
         } else if (id == resources.getInteger(R.integer.is_movie_favorited_loader_manager_id)) {
             loader = new IsFavoriteMovieLoaderTask(this, args);
         } else if (id == resources.getInteger(R.integer.set_movie_favorite_loader_manager_id)) {
@@ -326,10 +321,8 @@ public class MovieInfoActivity extends AppCompatActivity
     public void onLoadFinished(Loader loader, Object[] array) {
         afterNetworkRequest();
 
-        if (loader instanceof TrailerLoaderTask) {
-            finishLoadingTrailers((Trailer[]) array);
-        } else if (loader instanceof ReviewLoaderTask) {
-            finishLoadingReviews((Review[]) array);
+        if (loader instanceof MovieDetailsLoaderTask) {
+            finishLoadingDetails((MovieDetails[]) array);
         } else if (loader instanceof IsFavoriteMovieLoaderTask) {
             Boolean[] favorites = (Boolean[]) array;
             for (Boolean favorite : favorites) {
@@ -355,6 +348,27 @@ public class MovieInfoActivity extends AppCompatActivity
         }
     }
 
+    /**
+     * Specifies the operation to be performed after the details of the movie have been loaded.
+     * The latest information of the movie is displayed along with its trailers and reviews.
+     *
+     * @param movieDetails
+     */
+    private void finishLoadingDetails(MovieDetails[] movieDetails) {
+        Trailer[] trailers = null;
+        Review[] reviews = null;
+        if (movieDetails != null) {
+            for (MovieDetails details : movieDetails) {
+                displayMovieInformation(details.movie);
+                trailers = details.trailers;
+                reviews = details.reviews;
+            }
+        }
+
+        finishLoadingTrailers(trailers);
+        finishLoadingReviews(reviews);
+    }
+
     /**
      * Specifies the operation to be performed after trailers have been loaded.
      *
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout;
+
+import android.app.Application;
+import android.content.Context;
+
+import com.travistorres.moviescout.utils.db.FavoriteMovieIds;
+import com.travistorres.moviescout.utils.images.ImageManager;
+import com.travistorres.moviescout.utils.images.OfflineImageStore;
+import com.travistorres.moviescout.utils.networking.NetworkManager;
+import com.travistorres.moviescout.utils.tasks.TaskPool;
+import com.travistorres.moviescout.utils.tasks.TaskPriority;
+import com.travistorres.moviescout.utils.tasks.TaskScheduler;
+
+/**
+ * MovieScoutApplication
+ *
+ * Sets up the resources which are shared by every component of the application for as long as
+ * the process is alive.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class MovieScoutApplication extends Application {
+    /**
+     * Configures the shared resources before any Activity or Service is created.
+     *
+     */
+    @Override
+    public void onCreate() {
+        super.onCreate();
+
+        NetworkManager.configure(this);
+        ImageManager.configure(this);
+
+        //  reads the favorite movie ids and the stored images ahead of the first movie being shown
+        final FavoriteMovieIds favoriteMovieIds = FavoriteMovieIds.getInstance(this);
+        final Context applicationContext = getApplicationContext();
+        TaskScheduler.getInstance().submit(TaskPool.DISK, TaskPriority.BACKGROUND, null, new Runnable() {
+            @Override
+            public void run() {
+                OfflineImageStore.getInstance(applicationContext).load();
+                favoriteMovieIds.load();
+            }
+        });
+    }
+
+    /**
+     * Gives cached images back to the system when it is running low on memory.
+     *
+     * @param level
+     */
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+
+        ImageManager.onTrimMemory(level);
+    }
+
+    /**
+     * Releases every cached image when the entire system is running low on memory.
+     *
+     */
+    @Override
+    public void onLowMemory() {
+        super.onLowMemory();
+
+        ImageManager.onLowMemory();
+    }
+}
@@ -4,66 +4,63 @@
 
 package com.travistorres.moviescout.services;
 
-import android.os.AsyncTask;
-
 import com.firebase.jobdispatcher.JobParameters;
 import com.firebase.jobdispatcher.JobService;
 
 import com.travistorres.moviescout.notifications.NotificationsUtils;
+import com.travistorres.moviescout.utils.tasks.CancellationToken;
 import com.travistorres.moviescout.utils.widget.FavoritesManager;
 
 /**
  * FavoritesUpdatingTask
  *
  * Will request that all of the users favorites be updated by checking them against the latest
- * information from the server.
+ * information from the server.  The task is meant to be run by the TaskScheduler at background
+ * priority so that it never gets in the way of what the user is looking at.
  *
  * @author Travis Anthony Torres
  * @version April 24, 2017
  */
 
-class FavoritesUpdatingTask extends AsyncTask {
+class FavoritesUpdatingTask implements Runnable {
+    private CancellationToken cancellationToken;
     private JobService jobService;
     private JobParameters jobParameters;
-    private boolean didUpdateOccur;
 
     /**
      * Registers both the service and the parameters with the task.
      *
      * @param jobService
      * @param jobParameters
+     * @param token Cancelled when the job is stopped by the system
      */
-    public FavoritesUpdatingTask(JobService jobService, JobParameters jobParameters) {
+    public FavoritesUpdatingTask(JobService jobService, JobParameters jobParameters, CancellationToken token) {
         this.jobService = jobService;
         this.jobParameters = jobParameters;
+        cancellationToken = token;
     }
 
     /**
      * Requests the latest information in the users favorites and if any data has changed
-     * will update the record in the database.
-     *
-     * @param params
+     * will update the record in the database.  Once finished the system is notified that the job
+     * is done and a notification is displayed if an update occurred.
      *
-     * @return
      */
     @Override
-    protected Object doInBackground(Object[] params) {
+    public void run() {
         FavoritesManager favoritesManager = new FavoritesManager(jobService);
-        didUpdateOccur = favoritesManager.updateMovies();
-
-        return null;
-    }
+        boolean didUpdateOccur;
+        try {
+            didUpdateOccur = favoritesManager.updateMovies(cancellationToken);
+        } finally {
+            favoritesManager.close();
+        }
 
-    /**
-     * Specifies what to do when the job has finished updating all of the users favorites.
-     *
-     * @param o
-     */
-    @Override
-    protected void onPostExecute(Object o) {
-        super.onPostExecute(o);
+        //  a stopped job must not report that it has finished
+        if (cancellationToken.isCancelled()) {
+            return;
+        }
 
-        //  notify the system that the job is finished and display a notification if an update occurred
         jobService.jobFinished(jobParameters, false);
         if (didUpdateOccur) {
             NotificationsUtils.notifyUserThatFavoritesHaveBeenUpdated(jobService);
@@ -4,11 +4,14 @@
 
 package com.travistorres.moviescout.services;
 
-import android.os.AsyncTask;
-
 import com.firebase.jobdispatcher.JobParameters;
 import com.firebase.jobdispatcher.JobService;
 
+import com.travistorres.moviescout.utils.tasks.CancellationToken;
+import com.travistorres.moviescout.utils.tasks.TaskPool;
+import com.travistorres.moviescout.utils.tasks.TaskPriority;
+import com.travistorres.moviescout.utils.tasks.TaskScheduler;
+
 /**
  * UpdateFavoritesInformationJobService
  *
@@ -20,7 +23,7 @@ import com.firebase.jobdispatcher.JobService;
  */
 
 public class UpdateFavoritesInformationJobService extends JobService {
-    private AsyncTask mFavoritesUpdateTask;
+    private CancellationToken mCancellationToken;
 
     /**
      * Starts a separate thread which will query the server for all of the latest information on
@@ -33,8 +36,9 @@ public class UpdateFavoritesInformationJobService extends JobService {
      */
     @Override
     public boolean onStartJob(final JobParameters jobParameters) {
-        mFavoritesUpdateTask = new FavoritesUpdatingTask(this, jobParameters);
-        mFavoritesUpdateTask.execute();
+        mCancellationToken = new CancellationToken();
+        FavoritesUpdatingTask favoritesUpdateTask = new FavoritesUpdatingTask(this, jobParameters, mCancellationToken);
+        TaskScheduler.getInstance().submit(TaskPool.NETWORK, TaskPriority.BACKGROUND, mCancellationToken, favoritesUpdateTask);
 
         return true;
     }
@@ -48,8 +52,8 @@ public class UpdateFavoritesInformationJobService extends JobService {
      */
     @Override
     public boolean onStopJob(JobParameters jobParameters) {
-        if (mFavoritesUpdateTask != null) {
-            mFavoritesUpdateTask.cancel(true);
+        if (mCancellationToken != null) {
+            mCancellationToken.cancel();
         }
 
         return true;
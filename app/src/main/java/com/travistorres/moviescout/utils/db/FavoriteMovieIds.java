@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.db;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.SparseBooleanArray;
+
+import com.travistorres.moviescout.utils.db.tables.MoviesTable;
+
+/**
+ * FavoriteMovieIds
+ *
+ * Holds the server ids of every favorite movie in memory so that determining whether a movie is a
+ * favorite does not require a query.  The ids are read from the database once and are then kept
+ * current by the content provider as favorites are inserted and deleted, once the change has been
+ * committed.  Should the two ever disagree, such as when the id of a movie is updated, the ids are
+ * invalidated and read again the next time they are needed.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class FavoriteMovieIds {
+    private static FavoriteMovieIds sInstance;
+
+    private final Context context;
+
+    //  held while reading the ids from the database so that the monitor of the ids never waits on
+    //  the disk
+    private final Object loadLock = new Object();
+
+    //  only modified while holding the monitor of the ids, but read without it by `isLoaded`
+    private volatile SparseBooleanArray movieIds;
+
+    //  counts the changes so that ids read while a change was being made can be discarded
+    private int changeCount;
+
+    /**
+     * Retrieves the ids shared by the entire process.
+     *
+     * @param context
+     *
+     * @return The favorite movie ids
+     */
+    public static synchronized FavoriteMovieIds getInstance(Context context) {
+        if (sInstance == null) {
+            sInstance = new FavoriteMovieIds(context.getApplicationContext());
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Constructs the ids without reading them.
+     *
+     * @param context
+     */
+    private FavoriteMovieIds(Context context) {
+        this.context = context;
+    }
+
+    /**
+     * Determines if the ids have been read, in which case `contains` will not touch the disk.
+     * Never waits, even while the ids are being read, so it may be called from the main thread.
+     *
+     * @return `true` if the ids are in memory and `false` otherwise.
+     */
+    public boolean isLoaded() {
+        return movieIds != null;
+    }
+
+    /**
+     * Determines if a movie is one of the favorites.  The ids are read from the database first if
+     * they are not in memory, so the main thread should check `isLoaded` before calling this.
+     *
+     * @param movieId The id assigned to the movie by the server
+     *
+     * @return `true` if the movie is a favorite and `false` otherwise.
+     */
+    public boolean contains(int movieId) {
+        while (true) {
+            synchronized (this) {
+                if (movieIds != null) {
+                    return movieIds.get(movieId);
+                }
+            }
+
+            load();
+        }
+    }
+
+    /**
+     * Reads the ids from the database unless they are already in memory.  The ids are read again
+     * if a change is recorded while they are being read, since the read may not include it.
+     *
+     */
+    public void load() {
+        if (movieIds != null) {
+            return;
+        }
+
+        synchronized (loadLock) {
+            while (movieIds == null) {
+                int expectedChangeCount;
+                synchronized (this) {
+                    expectedChangeCount = changeCount;
+                }
+
+                SparseBooleanArray storedIds = readMovieIds();
+
+                synchronized (this) {
+                    if (changeCount == expectedChangeCount) {
+                        movieIds = storedIds;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the ids of every favorite movie from the database.
+     *
+     * @return The favorite movie ids
+     */
+    private SparseBooleanArray readMovieIds() {
+        MoviesDatabase database = MoviesDatabase.getInstance(context);
+        SQLiteDatabase connection = database.acquireDatabase();
+        try {
+            MoviesTable moviesTable = new MoviesTable(context, connection);
+            int[] storedIds = moviesTable.getMovieIds(null, null);
+
+            SparseBooleanArray movieIds = new SparseBooleanArray(storedIds.length);
+            for (int movieId : storedIds) {
+                movieIds.put(movieId, true);
+            }
+
+            return movieIds;
+        } finally {
+            database.releaseDatabase();
+        }
+    }
+
+    /**
+     * Records that a movie was added to the favorites.  Called by the content provider.
+     *
+     * @param movieId The id assigned to the movie by the server
+     */
+    public synchronized void add(int movieId) {
+        ++changeCount;
+        if (movieIds != null) {
+            movieIds.put(movieId, true);
+        }
+    }
+
+    /**
+     * Records that movies were removed from the favorites.  Called by the content provider.
+     *
+     * @param removedIds The ids assigned to the movies by the server
+     */
+    public synchronized void remove(int[] removedIds) {
+        ++changeCount;
+        if (movieIds != null) {
+            for (int movieId : removedIds) {
+                movieIds.delete(movieId);
+            }
+        }
+    }
+
+    /**
+     * Discards the ids so that they are read from the database the next time they are needed.
+     *
+     */
+    public synchronized void invalidate() {
+        ++changeCount;
+        movieIds = null;
+    }
+}
@@ -7,40 +7,192 @@ package com.travistorres.moviescout.utils.db;
 import android.content.Context;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
 import android.net.Uri;
 
+import com.travistorres.moviescout.utils.db.migrations.CascadingForeignKeysMigration;
+import com.travistorres.moviescout.utils.db.migrations.Migration;
+import com.travistorres.moviescout.utils.db.migrations.TypedColumnsMigration;
 import com.travistorres.moviescout.utils.db.tables.MoviesTable;
 import com.travistorres.moviescout.utils.db.tables.ReviewsTable;
 import com.travistorres.moviescout.utils.db.tables.TrailersTable;
 
+import java.util.HashMap;
+
 /**
  * MoviesDatabase
  *
  * Informs the application how to construct and upgrade various versions of the applications
  * database.
  *
+ * A single instance is shared by the entire process so that every table, the content provider and
+ * the favorites all use the same connection to the database file.  Components acquire the
+ * connection when they begin using it and release it once they are done.  The connection is
+ * opened by the first acquisition and closed once every acquisition has been released, which
+ * normally only happens when the content provider is shut down.
+ *
+ * The database is journaled with write-ahead logging so that the favorites may be read while the
+ * background update is writing to them.
+ *
+ * Statements which the tables run repeatedly are compiled once per connection and kept until the
+ * connection is closed.
+ *
  * @author Travis Anthony Torres
  * @version April 5, 2017
  */
 
 public class MoviesDatabase extends SQLiteOpenHelper {
-    private static final int VERSION = 1;
+    private static final int VERSION = 3;
     private static final String DATABASE_NAME = "moviescout.db";
 
     public static final String AUTHORITY = "com.travistorres.moviescout";
     public static final Uri BASE_CONTENT_URI = Uri.parse("content://" + AUTHORITY);
 
+    //  every migration ordered by the version it produces
+    private static final Migration[] MIGRATIONS = new Migration[] {
+        new TypedColumnsMigration(),
+        new CascadingForeignKeysMigration()
+    };
+
+    private static MoviesDatabase sInstance;
+
+    private SQLiteDatabase connection;
+    private final HashMap<String, SQLiteStatement> compiledStatements = new HashMap<>();
+    private int referenceCount;
+    private int openCount;
+    private int closeCount;
+
+    /**
+     * Retrieves the database shared by the entire process.
+     *
+     * @param context
+     *
+     * @return The shared database
+     */
+    public static synchronized MoviesDatabase getInstance(Context context) {
+        if (sInstance == null) {
+            sInstance = new MoviesDatabase(context.getApplicationContext());
+        }
+
+        return sInstance;
+    }
+
     /**
      * Constructs a new database model.
      *
      * @param context
      */
-    public MoviesDatabase(Context context) {
+    private MoviesDatabase(Context context) {
         super(context, DATABASE_NAME, null, VERSION);
+
+        //  readers use a pool of connections and are not blocked while favorites are being updated
+        setWriteAheadLoggingEnabled(true);
+    }
+
+    /**
+     * Acquires the shared connection, opening it if no other component is using it.  Every call
+     * must be balanced by a call to releaseDatabase.
+     *
+     * @return The shared connection
+     */
+    public synchronized SQLiteDatabase acquireDatabase() {
+        if (connection == null || !connection.isOpen()) {
+            connection = getWritableDatabase();
+            ++openCount;
+        }
+        ++referenceCount;
+
+        return connection;
+    }
+
+    /**
+     * Releases the shared connection, closing it once no component is using it.
+     *
+     */
+    public synchronized void releaseDatabase() {
+        if (referenceCount == 0) {
+            return;
+        }
+
+        --referenceCount;
+        if (referenceCount == 0) {
+            for (SQLiteStatement statement : compiledStatements.values()) {
+                statement.close();
+            }
+            compiledStatements.clear();
+
+            close();
+            connection = null;
+            ++closeCount;
+        }
+    }
+
+    /**
+     * Retrieves a statement compiled against the shared connection, compiling it the first time
+     * it is requested.  The statement is closed along with the connection, so callers must not
+     * close it and must hold the connection while running it.
+     *
+     * @param db The connection the caller is using
+     * @param sql
+     *
+     * @return The compiled statement or null if the caller is not using the shared connection
+     */
+    public synchronized SQLiteStatement getCompiledStatement(SQLiteDatabase db, String sql) {
+        if (db != connection || connection == null) {
+            return null;
+        }
+
+        SQLiteStatement statement = compiledStatements.get(sql);
+        if (statement == null) {
+            statement = connection.compileStatement(sql);
+            compiledStatements.put(sql, statement);
+        }
+
+        return statement;
+    }
+
+    /**
+     * Number of components which are currently using the connection.
+     *
+     * @return reference count
+     */
+    public synchronized int getReferenceCount() {
+        return referenceCount;
+    }
+
+    /**
+     * Number of times the connection has been opened since the process started.
+     *
+     * @return open count
+     */
+    public synchronized int getOpenCount() {
+        return openCount;
+    }
+
+    /**
+     * Number of times the connection has been closed since the process started.
+     *
+     * @return close count
+     */
+    public synchronized int getCloseCount() {
+        return closeCount;
+    }
+
+    /**
+     * Enables the foreign keys which remove the reviews and trailers of a movie along with it.
+     * Called every time a connection is opened since SQLite disables them by default.
+     *
+     * @param sqLiteDatabase
+     */
+    @Override
+    public void onConfigure(SQLiteDatabase sqLiteDatabase) {
+        super.onConfigure(sqLiteDatabase);
+
+        sqLiteDatabase.setForeignKeyConstraintsEnabled(true);
     }
 
     /**
-     * Specifies how to build the applications database.
+     * Specifies how to build the latest version of the applications database.
      *
      * @param sqLiteDatabase
      */
@@ -52,7 +204,8 @@ public class MoviesDatabase extends SQLiteOpenHelper {
     }
 
     /**
-     * Specifies how to update the database from the previous version.
+     * Specifies how to update the database from the previous version by running each migration
+     * between the two versions in order.
      *
      * @param sqLiteDatabase
      * @param previous The previous version code
@@ -60,6 +213,6 @@ public class MoviesDatabase extends SQLiteOpenHelper {
      */
     @Override
     public void onUpgrade(SQLiteDatabase sqLiteDatabase, int previous, int latest) {
-        //  not implemented as this is an initial release
+        Migration.migrate(sqLiteDatabase, MIGRATIONS, previous, latest);
     }
 }
@@ -5,9 +5,13 @@
 package com.travistorres.moviescout.utils.db.content_providers;
 
 import android.content.ContentProvider;
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
+import android.content.ContentResolver;
 import android.content.ContentUris;
 import android.content.ContentValues;
 import android.content.Context;
+import android.content.OperationApplicationException;
 import android.content.UriMatcher;
 import android.database.Cursor;
 import android.database.SQLException;
@@ -15,14 +19,20 @@ import android.database.sqlite.SQLiteDatabase;
 import android.net.Uri;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.util.SparseBooleanArray;
 
 import com.travistorres.moviescout.R;
+import com.travistorres.moviescout.utils.db.FavoriteMovieIds;
 import com.travistorres.moviescout.utils.db.MoviesDatabase;
 import com.travistorres.moviescout.utils.db.tables.BaseTable;
 import com.travistorres.moviescout.utils.db.tables.MoviesTable;
 import com.travistorres.moviescout.utils.db.tables.ReviewsTable;
 import com.travistorres.moviescout.utils.db.tables.TrailersTable;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * FavoriteMovieContentProvider
  *
@@ -33,7 +43,10 @@ import com.travistorres.moviescout.utils.db.tables.TrailersTable;
  */
 
 public class FavoriteMovieContentProvider extends ContentProvider {
-    private MoviesDatabase movieDatabase;
+    private SQLiteDatabase connection;
+
+    //  changes made by the batch running on the current thread, applied once it is committed
+    private final ThreadLocal<BatchChanges> batchChanges = new ThreadLocal<>();
 
     public static final int MOVIES = 100;
     public static final int MOVIE_WITH_ID = 101;
@@ -71,25 +84,51 @@ public class FavoriteMovieContentProvider extends ContentProvider {
     }
 
     /**
-     * Acquires a database instance for creating connections.
+     * The connection is not opened until the first request so that creating the provider when
+     * the process starts does not touch the disk.
      *
      * @return true if the instance was created
      */
     @Override
     public boolean onCreate() {
-        Context context = getContext();
-        movieDatabase = new MoviesDatabase(context);
-
         return true;
     }
 
+    /**
+     * Releases the shared connection.  Only called when running unit tests.
+     *
+     */
+    @Override
+    public synchronized void shutdown() {
+        if (connection != null) {
+            connection = null;
+            MoviesDatabase.getInstance(getContext()).releaseDatabase();
+        }
+
+        super.shutdown();
+    }
+
+    /**
+     * Acquires the shared connection the first time it is needed and holds onto it for as long as
+     * the provider is alive.
+     *
+     * @return shared database connection
+     */
+    private synchronized SQLiteDatabase getDatabase() {
+        if (connection == null) {
+            connection = MoviesDatabase.getInstance(getContext()).acquireDatabase();
+        }
+
+        return connection;
+    }
+
     /**
      * Acquires a connection to a writable database.
      *
      * @return writable database
      */
     private SQLiteDatabase getWritableDatabase() {
-        return movieDatabase.getWritableDatabase();
+        return getDatabase();
     }
 
     /**
@@ -98,7 +137,7 @@ public class FavoriteMovieContentProvider extends ContentProvider {
      * @return read only database
      */
     private SQLiteDatabase getReadableDatabase() {
-        return movieDatabase.getReadableDatabase();
+        return getDatabase();
     }
 
     /**
@@ -206,6 +245,7 @@ public class FavoriteMovieContentProvider extends ContentProvider {
             case MOVIES:
                 MoviesTable movies = new MoviesTable(context, writableDatabase);
                 returnUri = acquireInsertUri(movies, values, MoviesTable.MOVIE_CONTENT_URI, uri);
+                addFavoriteId(values.getAsInteger(MoviesTable.Cols.MOVIE_ID));
                 break;
             case REVIEWS:
                 ReviewsTable reviews = new ReviewsTable(context, writableDatabase);
@@ -219,11 +259,167 @@ public class FavoriteMovieContentProvider extends ContentProvider {
                 throw new UnsupportedOperationException(context.getString(R.string.content_provider_unknown_uri_message) + uri);
         }
 
-        context.getContentResolver().notifyChange(uri, null);
+        notifyChange(uri);
 
         return returnUri;
     }
 
+    /**
+     * Inserts a set of entities into a table within a single transaction.  Observers are notified
+     * once after every entity has been inserted.
+     *
+     * @param uri
+     * @param values
+     *
+     * @return The number of inserted entities
+     */
+    @Override
+    public int bulkInsert(@NonNull Uri uri, @NonNull ContentValues[] values) {
+        final SQLiteDatabase writableDatabase = getWritableDatabase();
+        BatchChanges changes = new BatchChanges();
+
+        batchChanges.set(changes);
+        writableDatabase.beginTransaction();
+        try {
+            for (ContentValues contentValues : values) {
+                insert(uri, contentValues);
+            }
+            writableDatabase.setTransactionSuccessful();
+        } finally {
+            writableDatabase.endTransaction();
+            batchChanges.remove();
+        }
+
+        onBatchCommitted(changes);
+
+        return values.length;
+    }
+
+    /**
+     * Applies a batch of operations within a single transaction so that either every operation is
+     * applied or none of them are.  Observers of each changed uri are notified once after the
+     * batch has been committed.
+     *
+     * @param operations
+     *
+     * @return The result of each operation
+     *
+     * @throws OperationApplicationException When any of the operations fail
+     */
+    @NonNull
+    @Override
+    public ContentProviderResult[] applyBatch(@NonNull ArrayList<ContentProviderOperation> operations)
+            throws OperationApplicationException {
+        final SQLiteDatabase writableDatabase = getWritableDatabase();
+        BatchChanges changes = new BatchChanges();
+        ContentProviderResult[] results;
+
+        batchChanges.set(changes);
+        writableDatabase.beginTransaction();
+        try {
+            results = super.applyBatch(operations);
+            writableDatabase.setTransactionSuccessful();
+        } finally {
+            writableDatabase.endTransaction();
+            batchChanges.remove();
+        }
+
+        onBatchCommitted(changes);
+
+        return results;
+    }
+
+    /**
+     * Applies the changes of a committed batch to the favorite movie ids and notifies the
+     * observers of every uri that was changed by the batch.  Nothing is applied when a batch is
+     * rolled back since the ids never saw its changes.
+     *
+     * @param changes
+     */
+    private void onBatchCommitted(BatchChanges changes) {
+        FavoriteMovieIds favoriteMovieIds = FavoriteMovieIds.getInstance(getContext());
+        if (changes.isFavoritesInvalidated) {
+            favoriteMovieIds.invalidate();
+        } else {
+            SparseBooleanArray favoriteIds = changes.favoriteIds;
+            for (int i = 0; i < favoriteIds.size(); ++i) {
+                int movieId = favoriteIds.keyAt(i);
+                if (favoriteIds.valueAt(i)) {
+                    favoriteMovieIds.add(movieId);
+                } else {
+                    favoriteMovieIds.remove(new int[] {movieId});
+                }
+            }
+        }
+
+        ContentResolver contentResolver = getContext().getContentResolver();
+        for (Uri uri : changes.changedUris) {
+            contentResolver.notifyChange(uri, null);
+        }
+    }
+
+    /**
+     * Notifies the observers of a uri that its data has changed.  The notification is delayed
+     * until the end of the batch when a batch is being applied.
+     *
+     * @param uri
+     */
+    private void notifyChange(Uri uri) {
+        BatchChanges changes = batchChanges.get();
+        if (changes != null) {
+            changes.changedUris.add(uri);
+        } else {
+            getContext().getContentResolver().notifyChange(uri, null);
+        }
+    }
+
+    /**
+     * Records that a movie was added to the favorites.  The favorite movie ids are not changed
+     * until the end of the batch when a batch is being applied, since until then a reader of the
+     * database would not yet see the movie.
+     *
+     * @param movieId The id assigned to the movie by the server
+     */
+    private void addFavoriteId(int movieId) {
+        BatchChanges changes = batchChanges.get();
+        if (changes != null) {
+            changes.favoriteIds.put(movieId, true);
+        } else {
+            FavoriteMovieIds.getInstance(getContext()).add(movieId);
+        }
+    }
+
+    /**
+     * Records that movies were removed from the favorites.  The favorite movie ids are not
+     * changed until the end of the batch when a batch is being applied.
+     *
+     * @param movieIds The ids assigned to the movies by the server
+     */
+    private void removeFavoriteIds(int[] movieIds) {
+        BatchChanges changes = batchChanges.get();
+        if (changes != null) {
+            for (int movieId : movieIds) {
+                changes.favoriteIds.put(movieId, false);
+            }
+        } else {
+            FavoriteMovieIds.getInstance(getContext()).remove(movieIds);
+        }
+    }
+
+    /**
+     * Discards the favorite movie ids so that they are read again, at the end of the batch when a
+     * batch is being applied.
+     *
+     */
+    private void invalidateFavoriteIds() {
+        BatchChanges changes = batchChanges.get();
+        if (changes != null) {
+            changes.isFavoritesInvalidated = true;
+        } else {
+            FavoriteMovieIds.getInstance(getContext()).invalidate();
+        }
+    }
+
     /**
      * Allows for inserting into a specified table.
      *
@@ -279,8 +475,49 @@ public class FavoriteMovieContentProvider extends ContentProvider {
                 throw new UnsupportedOperationException(context.getString(R.string.content_provider_unknown_uri_message));
         }
 
-        int numDeletedRows = table.deleteFromDatabase(selection, selectionArgs);
-        context.getContentResolver().notifyChange(uri, null);
+        int numDeletedRows;
+        if (table instanceof MoviesTable) {
+            numDeletedRows = deleteMovies((MoviesTable) table, selection, selectionArgs);
+        } else {
+            numDeletedRows = table.deleteFromDatabase(selection, selectionArgs);
+        }
+        notifyChange(uri);
+
+        return numDeletedRows;
+    }
+
+    /**
+     * Removes a selection of movies along with their reviews and trailers, and removes them from
+     * the favorite movie ids.  The ids are read within the same transaction as the delete so that
+     * they match the movies which are removed.
+     *
+     * @param table
+     * @param selection
+     * @param selectionArgs
+     *
+     * @return Number of movies that were deleted.
+     */
+    private int deleteMovies(MoviesTable table, String selection, String[] selectionArgs) {
+        final SQLiteDatabase writableDatabase = table.getDatabase();
+        int[] removedIds;
+        int numDeletedRows;
+
+        writableDatabase.beginTransaction();
+        try {
+            removedIds = table.getMovieIds(selection, selectionArgs);
+            numDeletedRows = table.deleteFromDatabase(selection, selectionArgs);
+            writableDatabase.setTransactionSuccessful();
+        } finally {
+            writableDatabase.endTransaction();
+        }
+
+        removeFavoriteIds(removedIds);
+
+        //  reviews and trailers are removed along with their movie
+        if (numDeletedRows > 0) {
+            notifyChange(ReviewsTable.REVIEW_CONTENT_URI);
+            notifyChange(TrailersTable.TRAILER_CONTENT_URI);
+        }
 
         return numDeletedRows;
     }
@@ -320,8 +557,28 @@ public class FavoriteMovieContentProvider extends ContentProvider {
         }
 
         int numUpdated = table.update(values, selection, selectionArgs);
-        context.getContentResolver().notifyChange(uri, null);
+
+        //  the ids are read again rather than working out which movies had their id changed
+        if (table instanceof MoviesTable && values != null && values.containsKey(MoviesTable.Cols.MOVIE_ID)) {
+            invalidateFavoriteIds();
+        }
+        notifyChange(uri);
 
         return numUpdated;
     }
+
+    /**
+     * BatchChanges
+     *
+     * The changes made by a batch which are held back until the batch has been committed.
+     *
+     */
+    private static class BatchChanges {
+        final Set<Uri> changedUris = new HashSet<>();
+
+        //  whether each movie id changed by the batch is a favorite once the batch is committed
+        final SparseBooleanArray favoriteIds = new SparseBooleanArray();
+
+        boolean isFavoritesInvalidated;
+    }
 }
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.db.migrations;
+
+import android.database.sqlite.SQLiteDatabase;
+
+/**
+ * CascadingForeignKeysMigration
+ *
+ * Rebuilds the reviews and trailers tables so that they reference the movie they belong to with a
+ * foreign key, which removes them along with their movie.  Reviews and trailers whose movie was
+ * already removed are not carried over.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class CascadingForeignKeysMigration extends Migration {
+    private static final int VERSION = 3;
+
+    private static final String REVIEW_COLUMNS = "_id, movie_id, id, author, content, review_url";
+    private static final String TRAILER_COLUMNS = "_id, movie_id, iso_639_1, iso_3166_1, key, " +
+            "name, site, size, type";
+
+    /**
+     * Constructs the migration to version 3.
+     *
+     */
+    public CascadingForeignKeysMigration() {
+        super(VERSION);
+    }
+
+    /**
+     * Copies the reviews and trailers into tables which declare the foreign key.  SQLite does not
+     * allow a constraint to be added to an existing table.
+     *
+     * @param db
+     */
+    @Override
+    public void migrate(SQLiteDatabase db) {
+        db.execSQL("ALTER TABLE reviews RENAME TO reviews_v2");
+        db.execSQL("ALTER TABLE trailers RENAME TO trailers_v2");
+
+        db.execSQL("CREATE TABLE reviews(" +
+                "_id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                "movie_id INTEGER NOT NULL REFERENCES movies(_id) ON DELETE CASCADE, " +
+                "id TEXT, " +
+                "author TEXT, " +
+                "content TEXT, " +
+                "review_url TEXT" +
+                ")"
+        );
+        db.execSQL("CREATE TABLE trailers(" +
+                "_id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                "movie_id INTEGER NOT NULL REFERENCES movies(_id) ON DELETE CASCADE, " +
+                "iso_639_1 TEXT, " +
+                "iso_3166_1 TEXT, " +
+                "key TEXT, " +
+                "name TEXT, " +
+                "site TEXT, " +
+                "size INTEGER, " +
+                "type TEXT" +
+                ")"
+        );
+
+        db.execSQL("INSERT INTO reviews(" + REVIEW_COLUMNS + ") " +
+                "SELECT " + REVIEW_COLUMNS + " FROM reviews_v2 " +
+                "WHERE movie_id IN (SELECT _id FROM movies)"
+        );
+        db.execSQL("INSERT INTO trailers(" + TRAILER_COLUMNS + ") " +
+                "SELECT " + TRAILER_COLUMNS + " FROM trailers_v2 " +
+                "WHERE movie_id IN (SELECT _id FROM movies)"
+        );
+
+        db.execSQL("DROP TABLE reviews_v2");
+        db.execSQL("DROP TABLE trailers_v2");
+
+        db.execSQL("CREATE INDEX reviews_movie_id_index ON reviews(movie_id)");
+        db.execSQL("CREATE INDEX trailers_movie_id_index ON trailers(movie_id)");
+    }
+}
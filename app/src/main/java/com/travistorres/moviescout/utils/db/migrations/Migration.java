@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.db.migrations;
+
+import android.database.sqlite.SQLiteDatabase;
+
+/**
+ * Migration
+ *
+ * Moves the database of an existing install from the previous version of the schema to a specific
+ * version.  Migrations describe the schema with their own statements rather than through the
+ * tables so that they continue to produce the same schema once the tables evolve further.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public abstract class Migration {
+    private final int version;
+
+    /**
+     * Constructs a migration.
+     *
+     * @param targetVersion The version of the schema that the migration produces
+     */
+    protected Migration(int targetVersion) {
+        version = targetVersion;
+    }
+
+    /**
+     * Retrieves the version of the schema that the migration produces.
+     *
+     * @return database version
+     */
+    public final int getVersion() {
+        return version;
+    }
+
+    /**
+     * Runs every migration needed to move a database between two versions in order.  The
+     * migrations are run within the transaction of the upgrade so that a failure leaves the
+     * database at its previous version.
+     *
+     * @param db
+     * @param migrations Every migration ordered by version
+     * @param previous The version of the existing database
+     * @param latest The version to move the database to
+     */
+    public static void migrate(SQLiteDatabase db, Migration[] migrations, int previous, int latest) {
+        for (Migration migration : migrations) {
+            int version = migration.getVersion();
+            if (version > previous && version <= latest) {
+                migration.migrate(db);
+            }
+        }
+    }
+
+    /**
+     * Moves the database from the previous version to the version of the migration.
+     *
+     * @param db
+     */
+    public abstract void migrate(SQLiteDatabase db);
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.db.migrations;
+
+import android.database.sqlite.SQLiteDatabase;
+
+/**
+ * TypedColumnsMigration
+ *
+ * Rebuilds every table with typed columns and indexes the movie id columns which the favorites
+ * are looked up by.  Version 1 allowed a movie to be stored more than once, so only the first copy
+ * of each movie is kept along with the reviews and trailers which belong to it.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class TypedColumnsMigration extends Migration {
+    private static final int VERSION = 2;
+
+    private static final String MOVIE_COLUMNS = "_id, poster_path, is_adult_film, overview, " +
+            "release_date, movie_id, original_title, title, backdrop_path, popularity, " +
+            "vote_count, has_video, vote_average, original_language";
+    private static final String REVIEW_COLUMNS = "_id, movie_id, id, author, content, review_url";
+    private static final String TRAILER_COLUMNS = "_id, movie_id, iso_639_1, iso_3166_1, key, " +
+            "name, site, size, type";
+
+    /**
+     * Constructs the migration to version 2.
+     *
+     */
+    public TypedColumnsMigration() {
+        super(VERSION);
+    }
+
+    /**
+     * Copies each table into a typed replacement.  Values keep their contents as SQLite converts
+     * them to the affinity of their new column when they are inserted.
+     *
+     * @param db
+     */
+    @Override
+    public void migrate(SQLiteDatabase db) {
+        db.execSQL("ALTER TABLE movies RENAME TO movies_v1");
+        db.execSQL("ALTER TABLE reviews RENAME TO reviews_v1");
+        db.execSQL("ALTER TABLE trailers RENAME TO trailers_v1");
+
+        db.execSQL("CREATE TABLE movies(" +
+                "_id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                "poster_path TEXT, " +
+                "is_adult_film INTEGER, " +
+                "overview TEXT, " +
+                "release_date TEXT, " +
+                "movie_id INTEGER NOT NULL, " +
+                "original_title TEXT, " +
+                "title TEXT, " +
+                "backdrop_path TEXT, " +
+                "popularity REAL, " +
+                "vote_count INTEGER, " +
+                "has_video INTEGER, " +
+                "vote_average REAL, " +
+                "original_language TEXT" +
+                ")"
+        );
+        db.execSQL("CREATE TABLE reviews(" +
+                "_id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                "movie_id INTEGER NOT NULL, " +
+                "id TEXT, " +
+                "author TEXT, " +
+                "content TEXT, " +
+                "review_url TEXT" +
+                ")"
+        );
+        db.execSQL("CREATE TABLE trailers(" +
+                "_id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                "movie_id INTEGER NOT NULL, " +
+                "iso_639_1 TEXT, " +
+                "iso_3166_1 TEXT, " +
+                "key TEXT, " +
+                "name TEXT, " +
+                "site TEXT, " +
+                "size INTEGER, " +
+                "type TEXT" +
+                ")"
+        );
+
+        //  keeps the first copy of every movie and drops rows which could not be converted
+        db.execSQL("INSERT INTO movies(" + MOVIE_COLUMNS + ") " +
+                "SELECT " + MOVIE_COLUMNS + " FROM movies_v1 " +
+                "WHERE _id IN (SELECT MIN(_id) FROM movies_v1 WHERE movie_id IS NOT NULL GROUP BY CAST(movie_id AS INTEGER))"
+        );
+        db.execSQL("INSERT INTO reviews(" + REVIEW_COLUMNS + ") " +
+                "SELECT " + REVIEW_COLUMNS + " FROM reviews_v1 " +
+                "WHERE CAST(movie_id AS INTEGER) IN (SELECT _id FROM movies)"
+        );
+        db.execSQL("INSERT INTO trailers(" + TRAILER_COLUMNS + ") " +
+                "SELECT " + TRAILER_COLUMNS + " FROM trailers_v1 " +
+                "WHERE CAST(movie_id AS INTEGER) IN (SELECT _id FROM movies)"
+        );
+
+        db.execSQL("DROP TABLE movies_v1");
+        db.execSQL("DROP TABLE reviews_v1");
+        db.execSQL("DROP TABLE trailers_v1");
+
+        db.execSQL("CREATE UNIQUE INDEX movies_movie_id_index ON movies(movie_id)");
+        db.execSQL("CREATE INDEX reviews_movie_id_index ON reviews(movie_id)");
+        db.execSQL("CREATE INDEX trailers_movie_id_index ON trailers(movie_id)");
+    }
+}
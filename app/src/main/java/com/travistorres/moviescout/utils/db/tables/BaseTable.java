@@ -8,6 +8,8 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteDoneException;
+import android.database.sqlite.SQLiteStatement;
 
 import com.travistorres.moviescout.utils.db.MoviesDatabase;
 
@@ -25,6 +27,7 @@ import com.travistorres.moviescout.utils.db.MoviesDatabase;
 public abstract class BaseTable {
     private String tableName;
     private Context context;
+    private boolean ownsConnection;
     protected SQLiteDatabase connection;
 
     /**
@@ -49,19 +52,32 @@ public abstract class BaseTable {
     }
 
     /**
-     * Constructs a new Table with a specified context and will construct a database connection
-     * that is either readonly or writable based on the value of the `readOnly` parameter.
+     * Constructs a new Table with a specified context which acquires the shared database
+     * connection.  The connection must be released by calling `close` once the table is no
+     * longer needed.
+     *
+     * The shared connection is always writable, so `readOnly` only documents how the table is
+     * intended to be used.
      *
      * @param mContext
      * @param readOnly
      */
     public BaseTable(Context mContext, boolean readOnly) {
         context = mContext;
+        connection = MoviesDatabase.getInstance(context).acquireDatabase();
+        ownsConnection = true;
+    }
 
-        MoviesDatabase db = new MoviesDatabase(context);
-        connection = (readOnly) ?
-                db.getReadableDatabase() :
-                db.getWritableDatabase();
+    /**
+     * Releases the shared database connection if it was acquired by the table.  Tables which were
+     * given a connection leave it to their creator to release.
+     *
+     */
+    public final void close() {
+        if (ownsConnection) {
+            ownsConnection = false;
+            MoviesDatabase.getInstance(context).releaseDatabase();
+        }
     }
 
     /**
@@ -148,7 +164,8 @@ public abstract class BaseTable {
     }
 
     /**
-     * Determines if there are rows in the database with the specified data fields.
+     * Determines if there are rows in the database with the specified data fields.  SQLite stops
+     * at the first matching row and no row is read into a cursor.
      *
      * @param whereClause
      * @param whereArgs
@@ -156,12 +173,75 @@ public abstract class BaseTable {
      * @return `true` if fields exist and `false` otherwise.
      */
     protected final boolean doesExistsInDatabase(String whereClause, String[] whereArgs) {
-        String tableName = getTableName();
-        Cursor cursor = connection.query(tableName, null, whereClause, whereArgs, null, null, null);
-        int count = cursor.getCount();
-        cursor.close();
+        String sql = "SELECT EXISTS(SELECT 1 FROM " + getTableName() + whereSql(whereClause) + ")";
+
+        return queryForLong(sql, whereArgs, 0) != 0;
+    }
 
-        return count > 0;
+    /**
+     * Reads a single numeric column from the first row with the specified data fields.
+     *
+     * @param column
+     * @param whereClause
+     * @param whereArgs
+     * @param defaultValue Value to return when no row matches
+     *
+     * @return The value of the column or `defaultValue` if no row matches.
+     */
+    protected final long queryColumnForLong(String column, String whereClause, String[] whereArgs, long defaultValue) {
+        String sql = "SELECT " + column + " FROM " + getTableName() + whereSql(whereClause) + " LIMIT 1";
+
+        return queryForLong(sql, whereArgs, defaultValue);
+    }
+
+    /**
+     * Runs a query which produces a single number.  The statement is compiled by the shared
+     * database the first time the query is run and reused by every table afterwards.
+     *
+     * @param sql
+     * @param whereArgs
+     * @param defaultValue Value to return when the query produces no row
+     *
+     * @return The result of the query or `defaultValue` if it produced no row.
+     */
+    private long queryForLong(String sql, String[] whereArgs, long defaultValue) {
+        MoviesDatabase database = MoviesDatabase.getInstance(context);
+        SQLiteStatement statement = database.getCompiledStatement(connection, sql);
+        boolean isCached = statement != null;
+        if (!isCached) {
+            statement = connection.compileStatement(sql);
+        }
+
+        //  a statement holds its bindings, so it may only be run by one thread at a time
+        synchronized (statement) {
+            try {
+                statement.clearBindings();
+                if (whereArgs != null) {
+                    statement.bindAllArgsAsStrings(whereArgs);
+                }
+
+                return statement.simpleQueryForLong();
+            } catch (SQLiteDoneException e) {
+                return defaultValue;
+            } finally {
+                if (!isCached) {
+                    statement.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Forms the WHERE clause of a statement.
+     *
+     * @param whereClause
+     *
+     * @return The clause, or an empty string when there is no selection
+     */
+    private static String whereSql(String whereClause) {
+        return (whereClause == null || whereClause.isEmpty()) ?
+                "" :
+                " WHERE " + whereClause;
     }
 
     /**
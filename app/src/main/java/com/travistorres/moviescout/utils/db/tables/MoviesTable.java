@@ -26,6 +26,7 @@ import com.travistorres.moviescout.utils.moviedb.models.Movie;
 
 public final class MoviesTable extends BaseTable {
     public static final String NAME = "movies";
+    public static final String MOVIE_ID_INDEX = "movies_movie_id_index";
 
     public static final String CONTENT_PATH = "movies";
     public static final Uri MOVIE_CONTENT_URI = MoviesDatabase.BASE_CONTENT_URI.buildUpon().appendPath(CONTENT_PATH).build();
@@ -50,28 +51,30 @@ public final class MoviesTable extends BaseTable {
     }
 
     /**
-     * Creates the database table.
+     * Creates the database table.  Each movie may only be stored once, which the unique index on
+     * the movie id enforces while also serving every lookup of a favorite.
      *
      * @param db
      */
     public static void createTable(SQLiteDatabase db) {
         db.execSQL("CREATE TABLE " + NAME + "(" +
                 "_id INTEGER PRIMARY KEY AUTOINCREMENT, " +
-                Cols.POSTER_PATH + ", " +
-                Cols.IS_ADULT_FILM + ", " +
-                Cols.OVERVIEW + ", " +
-                Cols.RELEASE_DATE + ", " +
-                Cols.MOVIE_ID + ", " +
-                Cols.ORIGINAL_TITLE + ", " +
-                Cols.TITLE + ", " +
-                Cols.BACKDROP_PATH + ", " +
-                Cols.POPULARITY + ", " +
-                Cols.VOTE_COUNT + ", " +
-                Cols.HAS_VIDEO + ", " +
-                Cols.VOTE_AVERAGE + ", " +
-                Cols.ORIGINAL_LANGUAGE +
+                Cols.POSTER_PATH + " TEXT, " +
+                Cols.IS_ADULT_FILM + " INTEGER, " +
+                Cols.OVERVIEW + " TEXT, " +
+                Cols.RELEASE_DATE + " TEXT, " +
+                Cols.MOVIE_ID + " INTEGER NOT NULL, " +
+                Cols.ORIGINAL_TITLE + " TEXT, " +
+                Cols.TITLE + " TEXT, " +
+                Cols.BACKDROP_PATH + " TEXT, " +
+                Cols.POPULARITY + " REAL, " +
+                Cols.VOTE_COUNT + " INTEGER, " +
+                Cols.HAS_VIDEO + " INTEGER, " +
+                Cols.VOTE_AVERAGE + " REAL, " +
+                Cols.ORIGINAL_LANGUAGE + " TEXT" +
                 ")"
         );
+        db.execSQL("CREATE UNIQUE INDEX " + MOVIE_ID_INDEX + " ON " + NAME + "(" + Cols.MOVIE_ID + ")");
     }
 
     /**
@@ -138,7 +141,7 @@ public final class MoviesTable extends BaseTable {
         cv.put(Cols.IS_ADULT_FILM, movie.isAdultFilm);
         cv.put(Cols.OVERVIEW, movie.overview);
         cv.put(Cols.RELEASE_DATE, movie.releaseDate);
-        cv.put(Cols.MOVIE_ID, Integer.toString(movie.id));
+        cv.put(Cols.MOVIE_ID, movie.id);
         cv.put(Cols.ORIGINAL_TITLE, movie.originalTitle);
         cv.put(Cols.TITLE, movie.title);
         cv.put(Cols.BACKDROP_PATH, movie.backdropPath);
@@ -201,15 +204,27 @@ public final class MoviesTable extends BaseTable {
             Integer.toString(movie.id)
         };
 
-        long movieId = -1;
-        Cursor cursor = connection.query(NAME, null, whereClause, whereArgs, null, null, null);
-        if (cursor.getCount() > 0) {
-            cursor.moveToFirst();
-            movieId = cursor.getLong(cursor.getColumnIndex("_id"));
+        return queryColumnForLong("_id", whereClause, whereArgs, -1);
+    }
+
+    /**
+     * Retrieves the server ids of the movies which match a selection without reading any of their
+     * other columns.
+     *
+     * @param selection
+     * @param selectionArgs
+     *
+     * @return The id assigned to each movie by the server
+     */
+    public int[] getMovieIds(String selection, String[] selectionArgs) {
+        Cursor cursor = connection.query(NAME, new String[] {Cols.MOVIE_ID}, selection, selectionArgs, null, null, null);
+        int[] movieIds = new int[cursor.getCount()];
+        for (int i = 0; cursor.moveToNext(); ++i) {
+            movieIds[i] = cursor.getInt(0);
         }
         cursor.close();
 
-        return movieId;
+        return movieIds;
     }
 
     /**
@@ -227,7 +242,7 @@ public final class MoviesTable extends BaseTable {
             for (int i = 0; i < cursor.getCount(); ++i) {
                 Movie m = new Movie();
                 m.posterPath = cursor.getString(cursor.getColumnIndex(Cols.POSTER_PATH));
-                m.isAdultFilm = Boolean.getBoolean(cursor.getString(cursor.getColumnIndex(Cols.IS_ADULT_FILM)));
+                m.isAdultFilm = cursor.getInt(cursor.getColumnIndex(Cols.IS_ADULT_FILM)) != 0;
                 m.overview = cursor.getString(cursor.getColumnIndex(Cols.OVERVIEW));
                 m.releaseDate = cursor.getString(cursor.getColumnIndex(Cols.RELEASE_DATE));
                 m.id = cursor.getInt(cursor.getColumnIndex(Cols.MOVIE_ID));
@@ -236,7 +251,7 @@ public final class MoviesTable extends BaseTable {
                 m.backdropPath = cursor.getString(cursor.getColumnIndex(Cols.BACKDROP_PATH));
                 m.popularity = cursor.getDouble(cursor.getColumnIndex(Cols.POPULARITY));
                 m.voteCount = cursor.getInt(cursor.getColumnIndex(Cols.VOTE_COUNT));
-                m.hasVideo = Boolean.getBoolean(cursor.getString(cursor.getColumnIndex(Cols.HAS_VIDEO)));
+                m.hasVideo = cursor.getInt(cursor.getColumnIndex(Cols.HAS_VIDEO)) != 0;
                 m.voteAverage = cursor.getDouble(cursor.getColumnIndex(Cols.VOTE_AVERAGE));
                 m.originalLanguage = cursor.getString(cursor.getColumnIndex(Cols.ORIGINAL_LANGUAGE));
                 m.dbId = cursor.getInt(cursor.getColumnIndex("_id"));
@@ -246,6 +261,7 @@ public final class MoviesTable extends BaseTable {
                 cursor.moveToNext();
             }
         }
+        cursor.close();
 
         return movies;
     }
@@ -24,6 +24,7 @@ import com.travistorres.moviescout.utils.moviedb.models.Review;
 
 public final class ReviewsTable extends BaseTable {
     public static final String NAME = "reviews";
+    public static final String MOVIE_ID_INDEX = "reviews_movie_id_index";
 
     public static final String CONTENT_PATH = "reviews";
     public static final Uri REVIEW_CONTENT_URI = MoviesDatabase.BASE_CONTENT_URI.buildUpon().appendPath(CONTENT_PATH).build();
@@ -149,19 +150,21 @@ public final class ReviewsTable extends BaseTable {
     }
 
     /**
-     * Creates the database table.
+     * Creates the database table.  Reviews are removed by the database along with the movie they
+     * belong to and are indexed by it since they are always looked up along with their movie.
      *
      * @param db
      */
     public static void createTable(SQLiteDatabase db) {
         db.execSQL("CREATE TABLE " + NAME + "(" +
                 " _id INTEGER PRIMARY KEY AUTOINCREMENT, " +
-                Cols.MOVIE_ID + ", " +
-                Cols.ID + ", " +
-                Cols.AUTHOR + ", " +
-                Cols.CONTENT + ", " +
-                Cols.REVIEW_URL +
+                Cols.MOVIE_ID + " INTEGER NOT NULL REFERENCES " + MoviesTable.NAME + "(_id) ON DELETE CASCADE, " +
+                Cols.ID + " TEXT, " +
+                Cols.AUTHOR + " TEXT, " +
+                Cols.CONTENT + " TEXT, " +
+                Cols.REVIEW_URL + " TEXT" +
                 ")"
         );
+        db.execSQL("CREATE INDEX " + MOVIE_ID_INDEX + " ON " + NAME + "(" + Cols.MOVIE_ID + ")");
     }
 }
@@ -24,6 +24,7 @@ import com.travistorres.moviescout.utils.moviedb.models.Trailer;
 
 public final class TrailersTable extends BaseTable {
     public static final String NAME = "trailers";
+    public static final String MOVIE_ID_INDEX = "trailers_movie_id_index";
 
     public static final String CONTENT_PATH = "trailers";
     public static final Uri TRAILER_CONTENT_URI = MoviesDatabase.BASE_CONTENT_URI.buildUpon().appendPath(CONTENT_PATH).build();
@@ -155,22 +156,24 @@ public final class TrailersTable extends BaseTable {
     }
 
     /**
-     * Creates a new table.
+     * Creates a new table.  Trailers are removed by the database along with the movie they belong
+     * to and are indexed by it since they are always looked up along with their movie.
      *
      * @param db
      */
     public static void createTable(SQLiteDatabase db) {
         db.execSQL("CREATE TABLE " + NAME + "(" +
                 " _id INTEGER PRIMARY KEY AUTOINCREMENT, " +
-                Cols.MOVIE_ID + ", " +
-                Cols.ISO_639_1 + ", " +
-                Cols.ISO_3166_1 + ", " +
-                Cols.KEY + ", " +
-                Cols.NAME + ", " +
-                Cols.SITE + ", " +
-                Cols.SIZE + ", " +
-                Cols.TYPE + "" +
+                Cols.MOVIE_ID + " INTEGER NOT NULL REFERENCES " + MoviesTable.NAME + "(_id) ON DELETE CASCADE, " +
+                Cols.ISO_639_1 + " TEXT, " +
+                Cols.ISO_3166_1 + " TEXT, " +
+                Cols.KEY + " TEXT, " +
+                Cols.NAME + " TEXT, " +
+                Cols.SITE + " TEXT, " +
+                Cols.SIZE + " INTEGER, " +
+                Cols.TYPE + " TEXT" +
                 ")"
         );
+        db.execSQL("CREATE INDEX " + MOVIE_ID_INDEX + " ON " + NAME + "(" + Cols.MOVIE_ID + ")");
     }
 }
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.images;
+
+import android.graphics.Bitmap;
+import android.util.LruCache;
+
+import com.squareup.picasso.Cache;
+
+/**
+ * BitmapMemoryCache
+ *
+ * Holds the most recently displayed images in memory up to a fixed number of bytes.  Unlike the
+ * cache which Picasso provides by default, the cache may be trimmed to a fraction of its size
+ * when the system is running low on memory and will grow back to its full size once images are
+ * displayed again.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class BitmapMemoryCache implements Cache {
+    private static final char KEY_SEPARATOR = '\n';
+
+    private final LruCache<String, Bitmap> bitmaps;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxSize Number of bytes the cached images may occupy
+     */
+    public BitmapMemoryCache(int maxSize) {
+        bitmaps = new LruCache<String, Bitmap>(maxSize) {
+            @Override
+            protected int sizeOf(String key, Bitmap bitmap) {
+                return bitmap.getAllocationByteCount();
+            }
+        };
+    }
+
+    @Override
+    public Bitmap get(String key) {
+        return bitmaps.get(key);
+    }
+
+    @Override
+    public void set(String key, Bitmap bitmap) {
+        bitmaps.put(key, bitmap);
+    }
+
+    @Override
+    public int size() {
+        return bitmaps.size();
+    }
+
+    @Override
+    public int maxSize() {
+        return bitmaps.maxSize();
+    }
+
+    @Override
+    public void clear() {
+        bitmaps.evictAll();
+    }
+
+    /**
+     * Removes every variation of an image.  Picasso keys each variation by the uri of the image
+     * followed by a separator and the transformations which were applied to it.
+     *
+     * @param uri
+     */
+    @Override
+    public void clearKeyUri(String uri) {
+        for (String key : bitmaps.snapshot().keySet()) {
+            if (key.indexOf(KEY_SEPARATOR) == uri.length() && key.startsWith(uri)) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes the least recently used images until the cache occupies no more than a fraction of
+     * its maximum size.
+     *
+     * @param divisor Fraction of the maximum size to keep, e.g. 2 keeps half of the cache
+     */
+    public void trim(int divisor) {
+        bitmaps.trimToSize(bitmaps.maxSize() / divisor);
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.images;
+
+import android.app.ActivityManager;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.net.http.HttpResponseCache;
+
+import com.squareup.picasso.Picasso;
+import com.squareup.picasso.UrlConnectionDownloader;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * ImageManager
+ *
+ * Configures the Picasso instance which is shared by the entire application.  Decoded images are
+ * kept in a memory cache whose size is a fraction of the heap available to the application and
+ * downloaded images are kept in a bounded disk cache.  The memory cache gives memory back to the
+ * system whenever the system asks the application to trim its memory.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class ImageManager {
+    private final static String DISK_CACHE_DIRECTORY_NAME = "images";
+    private final static long DISK_CACHE_SIZE = 50 * 1024 * 1024;
+    private final static int MEMORY_CACHE_HEAP_DIVISOR = 8;
+    private final static int LOW_RAM_MEMORY_CACHE_HEAP_DIVISOR = 16;
+    private final static int MEMORY_CACHE_TRIM_DIVISOR = 2;
+    private final static int BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private static BitmapMemoryCache sMemoryCache;
+
+    /**
+     * Installs the shared Picasso instance.  Must be called once when the application process
+     * starts, before any image is requested.
+     *
+     * @param context
+     */
+    public static synchronized void configure(Context context) {
+        if (sMemoryCache != null) {
+            return;
+        }
+
+        Context applicationContext = context.getApplicationContext();
+        installDiskCache(applicationContext);
+
+        sMemoryCache = new BitmapMemoryCache(calculateMemoryCacheSize(applicationContext));
+        Picasso picasso = new Picasso.Builder(applicationContext)
+                .memoryCache(sMemoryCache)
+                .downloader(new UrlConnectionDownloader(applicationContext))
+                .build();
+        Picasso.setSingletonInstance(picasso);
+    }
+
+    /**
+     * Releases cached images according to how urgently the system needs memory.  All images are
+     * released once the application is in the background, and half of them are released while it
+     * is in the foreground but the system is running low.
+     *
+     * @param level The level provided to ComponentCallbacks2.onTrimMemory
+     */
+    public static synchronized void onTrimMemory(int level) {
+        if (sMemoryCache == null) {
+            return;
+        }
+
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND) {
+            sMemoryCache.clear();
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            sMemoryCache.trim(MEMORY_CACHE_TRIM_DIVISOR);
+        }
+    }
+
+    /**
+     * Releases every cached image.
+     *
+     */
+    public static synchronized void onLowMemory() {
+        if (sMemoryCache != null) {
+            sMemoryCache.clear();
+        }
+    }
+
+    /**
+     * Installs the platform HTTP cache which Picasso stores downloaded images in.  Picasso would
+     * otherwise install one of its own with a size based on the free space of the device.
+     *
+     * @param context
+     */
+    private static void installDiskCache(Context context) {
+        if (HttpResponseCache.getInstalled() != null) {
+            return;
+        }
+
+        try {
+            File directory = new File(context.getCacheDir(), DISK_CACHE_DIRECTORY_NAME);
+            HttpResponseCache.install(directory, DISK_CACHE_SIZE);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Determines how many bytes of decoded images may be held in memory.  Devices which report
+     * themselves as having little memory are given a smaller share of the heap.
+     *
+     * @param context
+     *
+     * @return size in bytes
+     */
+    private static int calculateMemoryCacheSize(Context context) {
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        boolean isLargeHeap = (context.getApplicationInfo().flags & ApplicationInfo.FLAG_LARGE_HEAP) != 0;
+        int memoryClass = isLargeHeap ?
+                activityManager.getLargeMemoryClass() :
+                activityManager.getMemoryClass();
+        int divisor = activityManager.isLowRamDevice() ?
+                LOW_RAM_MEMORY_CACHE_HEAP_DIVISOR :
+                MEMORY_CACHE_HEAP_DIVISOR;
+
+        return memoryClass * BYTES_PER_MEGABYTE / divisor;
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.images;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+
+import com.travistorres.moviescout.R;
+
+/**
+ * ImageSizeSelector
+ *
+ * Chooses which of the image sizes offered by the TMDB server should be requested so that an
+ * image is never downloaded and decoded at a larger size than it is displayed.  The smallest size
+ * which is at least as wide as the view is selected, or the largest size when none of them are.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class ImageSizeSelector {
+    private static ImageSizeSelector sInstance;
+
+    private final String[] posterSizes;
+    private final int[] posterWidths;
+    private final String[] backdropSizes;
+    private final int[] backdropWidths;
+
+    /**
+     * Retrieves the selector shared by the entire application.
+     *
+     * @param context
+     *
+     * @return The image size selector
+     */
+    public static synchronized ImageSizeSelector getInstance(Context context) {
+        if (sInstance == null) {
+            sInstance = new ImageSizeSelector(context.getApplicationContext());
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Reads the available sizes from the resources.
+     *
+     * @param context
+     */
+    private ImageSizeSelector(Context context) {
+        Resources resources = context.getResources();
+        posterSizes = resources.getStringArray(R.array.tmdb_poster_sizes);
+        posterWidths = parseWidths(posterSizes);
+        backdropSizes = resources.getStringArray(R.array.tmdb_backdrop_sizes);
+        backdropWidths = parseWidths(backdropSizes);
+    }
+
+    /**
+     * Selects the size of a poster which will be displayed at a specific width.
+     *
+     * @param targetWidth Width of the view in pixels
+     *
+     * @return The TMDB size identifier
+     */
+    public String getPosterSize(int targetWidth) {
+        return selectSize(posterSizes, posterWidths, targetWidth);
+    }
+
+    /**
+     * Selects the size of a backdrop which will be displayed within a view.  A view which has not
+     * been measured yet is assumed to span the screen, as backdrops do.
+     *
+     * @param imageView
+     *
+     * @return The TMDB size identifier
+     */
+    public String getBackdropSize(ImageView imageView) {
+        int screenWidth = getScreenWidth(imageView.getContext());
+
+        return getBackdropSize(getTargetWidth(imageView, screenWidth));
+    }
+
+    /**
+     * Selects the size of a backdrop which will be displayed at a specific width.
+     *
+     * @param targetWidth Width of the view in pixels
+     *
+     * @return The TMDB size identifier
+     */
+    public String getBackdropSize(int targetWidth) {
+        return selectSize(backdropSizes, backdropWidths, targetWidth);
+    }
+
+    /**
+     * Width of a backdrop which spans the screen in its current orientation.
+     *
+     * @param context
+     *
+     * @return width in pixels
+     */
+    public static int getScreenWidth(Context context) {
+        return context.getResources().getDisplayMetrics().widthPixels;
+    }
+
+    /**
+     * Determines the width an image will be displayed at.
+     *
+     * @param imageView
+     * @param fallbackWidth Width to use when the view has not been measured yet
+     *
+     * @return width in pixels
+     */
+    public static int getTargetWidth(ImageView imageView, int fallbackWidth) {
+        if (imageView.getWidth() > 0) {
+            return imageView.getWidth();
+        }
+
+        ViewGroup.LayoutParams layoutParams = imageView.getLayoutParams();
+        if (layoutParams != null && layoutParams.width > 0) {
+            return layoutParams.width;
+        }
+
+        return fallbackWidth;
+    }
+
+    /**
+     * Finds the smallest size that is at least as wide as the target.
+     *
+     * @param sizes Size identifiers from smallest to largest
+     * @param widths The width of each size
+     * @param targetWidth
+     *
+     * @return The TMDB size identifier
+     */
+    private static String selectSize(String[] sizes, int[] widths, int targetWidth) {
+        for (int i = 0; i < widths.length; ++i) {
+            if (widths[i] >= targetWidth) {
+                return sizes[i];
+            }
+        }
+
+        return sizes[sizes.length - 1];
+    }
+
+    /**
+     * Reads the widths from size identifiers such as w342.
+     *
+     * @param sizes
+     *
+     * @return The width of each size
+     */
+    private static int[] parseWidths(String[] sizes) {
+        int[] widths = new int[sizes.length];
+        for (int i = 0; i < sizes.length; ++i) {
+            widths[i] = Integer.parseInt(sizes[i].substring(1));
+        }
+
+        return widths;
+    }
+}
@@ -0,0 +1,230 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.images;
+
+import android.content.Context;
+import android.net.Uri;
+
+import com.squareup.picasso.Downloader;
+import com.squareup.picasso.UrlConnectionDownloader;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OfflineImageStore
+ *
+ * Keeps the poster and backdrop of each favorite movie on disk so that the favorites can be
+ * displayed without a network connection.  Unlike the image cache, an image is only removed along
+ * with its movie, so the store never holds more than two images for each favorite.
+ *
+ * Reading the names of the stored images touches the disk, so they are read by `load` on a
+ * background thread, which the application does as soon as it starts.  Until then every image is
+ * reported as not stored and is downloaded instead, so the main thread never waits on the disk.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class OfflineImageStore {
+    private final static String DIRECTORY_NAME = "favorite-images";
+    private final static String POSTER_SUFFIX = "-poster.jpg";
+    private final static String BACKDROP_SUFFIX = "-backdrop.jpg";
+    private final static String TEMPORARY_EXTENSION = ".tmp";
+    private final static int BUFFER_SIZE = 8192;
+
+    private static OfflineImageStore sInstance;
+
+    private final Downloader downloader;
+    private final File directory;
+    private final Set<String> storedFileNames;
+    private volatile boolean isLoaded;
+
+    /**
+     * Retrieves the store shared by the entire application.
+     *
+     * @param context
+     *
+     * @return The offline image store
+     */
+    public static synchronized OfflineImageStore getInstance(Context context) {
+        if (sInstance == null) {
+            sInstance = new OfflineImageStore(context.getApplicationContext());
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Constructs the store without touching the disk.
+     *
+     * @param context
+     */
+    private OfflineImageStore(Context context) {
+        downloader = new UrlConnectionDownloader(context);
+        directory = new File(context.getFilesDir(), DIRECTORY_NAME);
+        storedFileNames = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    }
+
+    /**
+     * Remembers which images are already stored so that looking up an image does not touch the
+     * disk.  Must not be called from the main thread.
+     *
+     */
+    public synchronized void load() {
+        if (isLoaded) {
+            return;
+        }
+
+        String[] fileNames = directory.list();
+        if (fileNames != null) {
+            for (String fileName : fileNames) {
+                if (!fileName.endsWith(TEMPORARY_EXTENSION)) {
+                    storedFileNames.add(fileName);
+                }
+            }
+        }
+        isLoaded = true;
+    }
+
+    /**
+     * Retrieves the stored poster of a movie.
+     *
+     * @param movieId The id assigned to the movie by the server
+     *
+     * @return The poster or null if it has not been stored or the store has not been loaded
+     */
+    public File getPosterFile(int movieId) {
+        return getStoredFile(movieId + POSTER_SUFFIX);
+    }
+
+    /**
+     * Retrieves the stored backdrop of a movie.
+     *
+     * @param movieId The id assigned to the movie by the server
+     *
+     * @return The backdrop or null if it has not been stored or the store has not been loaded
+     */
+    public File getBackdropFile(int movieId) {
+        return getStoredFile(movieId + BACKDROP_SUFFIX);
+    }
+
+    /**
+     * Downloads and stores the images of a movie.  Must not be called from the main thread.
+     *
+     * @param movieId The id assigned to the movie by the server
+     * @param posterUrl The address of the poster or null if the movie does not have one
+     * @param backdropUrl The address of the backdrop or null if the movie does not have one
+     */
+    public void store(int movieId, String posterUrl, String backdropUrl) {
+        load();
+
+        if (posterUrl != null) {
+            storeImage(posterUrl, movieId + POSTER_SUFFIX);
+        }
+        if (backdropUrl != null) {
+            storeImage(backdropUrl, movieId + BACKDROP_SUFFIX);
+        }
+    }
+
+    /**
+     * Deletes the images of a movie.  Must not be called from the main thread.
+     *
+     * @param movieId The id assigned to the movie by the server
+     */
+    public synchronized void remove(int movieId) {
+        load();
+
+        deleteStoredFile(movieId + POSTER_SUFFIX);
+        deleteStoredFile(movieId + BACKDROP_SUFFIX);
+    }
+
+    /**
+     * Retrieves a stored image.
+     *
+     * @param fileName
+     *
+     * @return The image or null if it has not been stored
+     */
+    private File getStoredFile(String fileName) {
+        return (isLoaded && storedFileNames.contains(fileName)) ?
+                new File(directory, fileName) :
+                null;
+    }
+
+    /**
+     * Downloads an image and writes its bytes as they are to a temporary file which replaces the
+     * stored image once it has been written completely.  The download is served from the image
+     * cache whenever the image has been displayed recently.
+     *
+     * @param imageUrl
+     * @param fileName
+     */
+    private void storeImage(String imageUrl, String fileName) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            return;
+        }
+
+        File file = new File(directory, fileName);
+        File temporaryFile = new File(directory, fileName + TEMPORARY_EXTENSION);
+        InputStream input = null;
+        OutputStream output = null;
+        try {
+            input = downloader.load(Uri.parse(imageUrl), 0).getInputStream();
+            output = new FileOutputStream(temporaryFile);
+
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int byteCount;
+            while ((byteCount = input.read(buffer)) != -1) {
+                output.write(buffer, 0, byteCount);
+            }
+            output.close();
+            output = null;
+
+            //  the name is recorded while holding the store so that a removal cannot interleave
+            synchronized (this) {
+                if (temporaryFile.renameTo(file)) {
+                    storedFileNames.add(fileName);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            if (input != null) {
+                try {
+                    input.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            if (output != null) {
+                try {
+                    output.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            if (temporaryFile.exists()) {
+                temporaryFile.delete();
+            }
+        }
+    }
+
+    /**
+     * Deletes a stored image.
+     *
+     * @param fileName
+     */
+    private void deleteStoredFile(String fileName) {
+        storedFileNames.remove(fileName);
+        new File(directory, fileName).delete();
+    }
+}
@@ -7,18 +7,25 @@ package com.travistorres.moviescout.utils.moviedb;
 import android.content.Context;
 import android.content.res.Resources;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.support.v4.app.FragmentActivity;
 import android.support.v4.app.LoaderManager;
 import android.support.v4.content.Loader;
+import android.support.v4.util.LruCache;
 import android.widget.Toast;
 
 import com.travistorres.moviescout.R;
 import com.travistorres.moviescout.utils.moviedb.interfaces.MovieClickedListener;
 import com.travistorres.moviescout.utils.moviedb.interfaces.MovieDbNetworkingErrorHandler;
+import com.travistorres.moviescout.utils.moviedb.interfaces.MovieListScrollHandler;
+import com.travistorres.moviescout.utils.moviedb.interfaces.MoviePageListener;
 import com.travistorres.moviescout.utils.moviedb.adapters.MovieListAdapter;
 import com.travistorres.moviescout.utils.moviedb.loaders.FavoriteMovieLoaderTask;
 import com.travistorres.moviescout.utils.moviedb.loaders.MovieListLoader;
 import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.moviedb.models.MoviePage;
 import com.travistorres.moviescout.utils.networking.UrlManager;
 
 import java.net.URL;
@@ -34,7 +41,15 @@ import java.net.URL;
  */
 
 public class MovieDbRequester
-        implements LoaderManager.LoaderCallbacks<Movie[]> {
+        implements LoaderManager.LoaderCallbacks<MoviePage>, MoviePageListener {
+    private static final int MINIMUM_PREFETCH_DISTANCE = 5;
+    private static final int MAXIMUM_PREFETCH_DISTANCE = 100;
+    private static final int PREFETCH_LATENCY_MULTIPLIER = 2;
+    private static final long PAGE_RETRY_DELAY = 2000;
+    private static final int MAX_PAGE_RETRY_COUNT = 5;
+    private static final long SCROLL_IDLE_TIME = 500;
+    private static final double SCROLL_VELOCITY_SMOOTHING_FACTOR = 0.5;
+
     /*
      *  Error message to display when no network could be reached.
      *
@@ -42,13 +57,25 @@ public class MovieDbRequester
     public final String MOVIE_REQUEST_URL_EXTRA;
     public final String NO_NETWORK_ERROR_MESSAGE;
 
+    private final Handler retryHandler;
+    private final Runnable retryFailedPage;
     private FragmentActivity parentActivity;
+    private boolean shouldReplaceMovies;
+    private double scrollVelocity;
     private int currentPage;
+    private int lastBoundPosition;
+    private int pageFailureCount;
+    private int prefetchWindowSize;
     private int totalMovies;
     private int totalPages;
+    private long lastBindTime;
+    private long lastPageFailureTime;
     private MovieDbNetworkingErrorHandler errorHandler;
     private MovieListAdapter movieAdapter;
+    private MovieListScrollHandler scrollHandler;
+    private MoviePagePrefetcher pagePrefetcher;
     private MovieSortType sortType;
+    private LruCache<MovieSortType, MovieListSession> sessionCache;
     private String versionThreeApiKey;
 
     /**
@@ -60,14 +87,37 @@ public class MovieDbRequester
      */
     public MovieDbRequester(FragmentActivity parent, MovieDbNetworkingErrorHandler networkHandler, MovieClickedListener clickListener) {
         errorHandler = networkHandler;
-        movieAdapter = new MovieListAdapter(clickListener, this);
         parentActivity = parent;
+        movieAdapter = new MovieListAdapter(clickListener, this);
         sortType = MovieSortType.MOST_POPULAR;
 
+        //  requests a failed page again even when nothing is displayed to trigger it
+        retryHandler = new Handler(Looper.getMainLooper());
+        retryFailedPage = new Runnable() {
+            @Override
+            public void run() {
+                requestNext();
+            }
+        };
+
         //  specifies the extra to use for acquiring the resource url
         MOVIE_REQUEST_URL_EXTRA = parentActivity.getString(R.string.movie_request_url_extra);
         NO_NETWORK_ERROR_MESSAGE = parentActivity.getString(R.string.unable_to_access_network_resource_message);
 
+        //  requests several pages ahead of the user at once
+        Resources resources = parentActivity.getResources();
+        pagePrefetcher = new MoviePagePrefetcher(parentActivity, errorHandler, this);
+        prefetchWindowSize = resources.getInteger(R.integer.movie_list_prefetch_window_page_count);
+
+        //  remembers the loaded movies of recently displayed sort types up to a total movie count
+        int sessionCacheSize = resources.getInteger(R.integer.movie_list_session_cache_movie_count);
+        sessionCache = new LruCache<MovieSortType, MovieListSession>(sessionCacheSize) {
+            @Override
+            protected int sizeOf(MovieSortType key, MovieListSession session) {
+                return Math.max(1, session.movies.length);
+            }
+        };
+
         reset();
     }
 
@@ -89,15 +139,198 @@ public class MovieDbRequester
         versionThreeApiKey = versionThreeKey;
     }
 
+    /**
+     * Specifies the view which is able to report and restore the scroll position of the list.
+     *
+     * @param handler
+     */
+    public void setScrollHandler(MovieListScrollHandler handler) {
+        scrollHandler = handler;
+    }
+
+    /**
+     * Specifies the maximum number of pages which may be requested ahead of the user at once.
+     *
+     * @param pageCount
+     */
+    public void setPrefetchWindowSize(int pageCount) {
+        prefetchWindowSize = Math.max(1, pageCount);
+    }
+
     /**
      * Clears out the contents of the adapter and resets all flag values.
      *
      */
     public void reset() {
+        cancelRequests();
+        resetPaging();
+        movieAdapter.empty();
+    }
+
+    /**
+     * Starts over from the first page while leaving the current movies on display.  Once the
+     * first page arrives it replaces the displayed movies so that movies which appear in both
+     * lists remain in place.
+     *
+     */
+    public void refresh() {
+        resetPaging();
+
+        cancelRequests();
+
+        requestNext();
+        shouldReplaceMovies = true;
+    }
+
+    /**
+     * Displays the movies for a different sort type.  When the sort type was displayed recently
+     * its movies, paging state and scroll position are restored from memory and the first page is
+     * refreshed in the background.  Otherwise the list is requested from the first page.
+     *
+     * @param type The movie sort type.
+     */
+    public void changeSortType(MovieSortType type) {
+        saveSession();
+        sortType = type;
+
+        final MovieListSession session = sessionCache.get(type);
+        if (session == null) {
+            refresh();
+            return;
+        }
+
+        //  continue paging from where the user left off
+        cancelRequests();
+        resetPaging();
+        currentPage = session.currentPage;
+        totalPages = session.totalPages;
+        totalMovies = session.totalMovies;
+
+        movieAdapter.replaceMoviesList(session.movies, new Runnable() {
+            @Override
+            public void run() {
+                scrollToPosition(session.scrollPosition);
+                refreshFirstPage();
+            }
+        });
+    }
+
+    /**
+     * Remembers the movies which are currently displayed for the current sort type.
+     *
+     */
+    private void saveSession() {
+        //  the displayed movies may still belong to a different sort type
+        if (shouldReplaceMovies || movieAdapter.isReplacing()) {
+            return;
+        }
+
+        Movie[] movies = movieAdapter.getMovies();
+        if (movies == null || movies.length == 0) {
+            return;
+        }
+
+        int scrollPosition = scrollHandler != null ? scrollHandler.getScrollPosition() : 0;
+        MovieListSession session = new MovieListSession(movies, getCurrentPage(), totalPages, totalMovies, scrollPosition);
+        sessionCache.put(sortType, session);
+    }
+
+    /**
+     * Requests the first page again so that a restored list reflects the latest results.
+     *
+     */
+    private void refreshFirstPage() {
+        if (sortType == MovieSortType.FAVORITES) {
+            loadLoaderManager(null, R.integer.movie_list_refresh_loader_manager_id);
+        } else {
+            URL url = getRequestUrl(1);
+            Bundle requestUrlBundle = new Bundle();
+            requestUrlBundle.putString(MOVIE_REQUEST_URL_EXTRA, url.toString());
+            loadLoaderManager(requestUrlBundle, R.integer.movie_list_refresh_loader_manager_id);
+        }
+    }
+
+    /**
+     * Merges a refreshed first page into the displayed movies.
+     *
+     * @param moviePage
+     */
+    private void onFirstPageRefreshed(MoviePage moviePage) {
+        if (moviePage == null) {
+            //  no favorites remain while a failed network request keeps the restored list
+            if (sortType == MovieSortType.FAVORITES) {
+                movieAdapter.empty();
+            }
+            return;
+        }
+
+        //  favorites are always a single page so the refreshed page replaces everything
+        if (sortType == MovieSortType.FAVORITES) {
+            movieAdapter.replaceMoviesList(moviePage.movies);
+            return;
+        }
+
+        totalPages = moviePage.totalPages;
+        totalMovies = moviePage.totalResults;
+
+        //  the adapter keeps the first occurrence of a movie so the refreshed page takes priority
+        Movie[] displayedMovies = movieAdapter.getMovies();
+        int displayedCount = displayedMovies != null ? displayedMovies.length : 0;
+        Movie[] mergedMovies = new Movie[moviePage.movies.length + displayedCount];
+        System.arraycopy(moviePage.movies, 0, mergedMovies, 0, moviePage.movies.length);
+        if (displayedMovies != null) {
+            System.arraycopy(displayedMovies, 0, mergedMovies, moviePage.movies.length, displayedCount);
+        }
+        movieAdapter.replaceMoviesList(mergedMovies);
+    }
+
+    /**
+     * Scrolls the list if a scroll handler has been specified.
+     *
+     * @param position
+     */
+    private void scrollToPosition(int position) {
+        if (scrollHandler != null) {
+            scrollHandler.scrollToPosition(position);
+        }
+    }
+
+    /**
+     * Stops all loaders and prefetched pages so that results from a previous sort type are never
+     * delivered.
+     *
+     */
+    private void cancelRequests() {
+        pagePrefetcher.cancel();
+
+        LoaderManager loaderManager = parentActivity.getSupportLoaderManager();
+        Resources resources = parentActivity.getResources();
+        loaderManager.destroyLoader(resources.getInteger(R.integer.favorite_movies_loader_manager_id));
+        loaderManager.destroyLoader(resources.getInteger(R.integer.movie_list_refresh_loader_manager_id));
+    }
+
+    /**
+     * Stops every request which is still running.  Should be called once the Activity which owns
+     * the requester goes away.
+     *
+     */
+    public void release() {
+        pagePrefetcher.cancel();
+        retryHandler.removeCallbacks(retryFailedPage);
+    }
+
+    /**
+     * Resets all of the paging flag values.
+     *
+     */
+    private void resetPaging() {
         currentPage = 1;
-        totalPages = 1;
+        totalPages = 0;
         totalMovies = 0;
-        movieAdapter.empty();
+        shouldReplaceMovies = false;
+        lastPageFailureTime = 0;
+        pageFailureCount = 0;
+        retryHandler.removeCallbacks(retryFailedPage);
     }
 
     /**
@@ -110,29 +343,79 @@ public class MovieDbRequester
     }
 
     /**
-     * Displays the next set of results onto the movie list.
+     * Displays the next set of results onto the movie list.  Pages of movies from the server are
+     * requested until the prefetch window is full.
      *
      */
     public void requestNext() {
-        if (hasNextPage()) {
-            if (sortType == MovieSortType.FAVORITES) {
+        //  the next page cannot be requested until the first one has replaced the displayed list
+        if (shouldReplaceMovies) {
+            return;
+        }
+
+        if (sortType == MovieSortType.FAVORITES) {
+            if (hasNextPage()) {
                 totalPages = 2; //  prevents infinite list of results
                 currentPage = 3;
                 loadLoaderManager(null, R.integer.favorite_movies_loader_manager_id);
-            } else {
-                URL url = getCurrentRequestUrl();
-                Bundle requestUrlBundle = new Bundle();
-                requestUrlBundle.putString(MOVIE_REQUEST_URL_EXTRA, url.toString());
+            }
+            return;
+        }
 
-                //  run the restful request loader
-                loadLoaderManager(requestUrlBundle, R.integer.movie_db_requester_loader_manager_id);
+        //  give the server a moment before retrying a page which failed
+        if (SystemClock.uptimeMillis() - lastPageFailureTime < getPageRetryDelay()) {
+            return;
+        }
 
-                //  update the page index
-                ++currentPage;
-            }
+        //  keep the prefetch window full
+        while (hasNextPage() && pagePrefetcher.getOutstandingPageCount() < prefetchWindowSize) {
+            pagePrefetcher.request(currentPage, getCurrentRequestUrl());
+            ++currentPage;
         }
     }
 
+    /**
+     * Notifies the requester that a movie is about to be displayed so that more pages can be
+     * requested before the user reaches the end of the list.  The faster the user scrolls and
+     * the longer pages take to arrive, the further ahead the next pages are requested.
+     *
+     * @param position The position of the displayed movie
+     * @param itemCount The number of movies in the list
+     */
+    public void onMovieBound(int position, int itemCount) {
+        long now = SystemClock.uptimeMillis();
+        long elapsedTime = now - lastBindTime;
+
+        //  measure how many movies are being displayed every millisecond
+        if (elapsedTime > SCROLL_IDLE_TIME || position < lastBoundPosition) {
+            scrollVelocity = 0;
+            lastBoundPosition = position;
+            lastBindTime = now;
+        } else if (elapsedTime > 0) {
+            double currentVelocity = (double) (position - lastBoundPosition) / elapsedTime;
+            scrollVelocity += SCROLL_VELOCITY_SMOOTHING_FACTOR * (currentVelocity - scrollVelocity);
+            lastBoundPosition = position;
+            lastBindTime = now;
+        }
+
+        //  acquire more results when nearing the end of the list
+        if (itemCount - position <= getPrefetchDistance()) {
+            requestNext();
+        }
+    }
+
+    /**
+     * Determines how many movies before the end of the list the next pages should be requested.
+     *
+     * @return The number of remaining movies which triggers a request
+     */
+    private int getPrefetchDistance() {
+        double moviesDuringRequest = scrollVelocity * pagePrefetcher.getAveragePageLatency();
+        int distance = MINIMUM_PREFETCH_DISTANCE + (int) Math.ceil(moviesDuringRequest * PREFETCH_LATENCY_MULTIPLIER);
+
+        return Math.min(distance, MAXIMUM_PREFETCH_DISTANCE);
+    }
+
     /**
      * Executes a specified loader manager by its resource id.
      *
@@ -152,8 +435,19 @@ public class MovieDbRequester
      * @return The URL to acquire the next set of results.
      */
     public URL getCurrentRequestUrl() {
-        UrlManager urlManager = new UrlManager(parentActivity);
-        URL url = urlManager.getSortedMoveListUrl(sortType, currentPage, versionThreeApiKey);
+        return getRequestUrl(currentPage);
+    }
+
+    /**
+     * Acquires the URL of a specific page for the current sort type.
+     *
+     * @param page
+     *
+     * @return The URL to acquire the page of results.
+     */
+    private URL getRequestUrl(int page) {
+        UrlManager urlManager = UrlManager.getInstance(parentActivity);
+        URL url = urlManager.getSortedMoveListUrl(sortType, page, versionThreeApiKey);
 
         return url;
     }
@@ -161,10 +455,14 @@ public class MovieDbRequester
     /**
      * Determines if there is another page that can be queried.
      *
-     * @return true if there are more pages or total pages has not been set, and false otherwise.
+     * @return true if there are more pages or the first page has not been requested, and false
+     * otherwise.
      */
     public boolean hasNextPage() {
-        return currentPage < totalPages || totalPages == 1;
+        //  only the first page may be requested until the number of pages is known
+        return totalPages == 0 ?
+                currentPage == 1 :
+                currentPage <= totalPages;
     }
 
     /**
@@ -176,37 +474,129 @@ public class MovieDbRequester
      * @return LoaderManager responsible for requesting movie resources from the server
      */
     @Override
-    public Loader<Movie[]> onCreateLoader(int id, final Bundle args) {
+    public Loader<MoviePage> onCreateLoader(int id, final Bundle args) {
         Loader loader = null;
         Resources resources = parentActivity.getResources();
-        if (id == resources.getInteger(R.integer.movie_db_requester_loader_manager_id)) {
-            loader = new MovieListLoader(this, args, errorHandler);
-        } else if (id == resources.getInteger(R.integer.favorite_movies_loader_manager_id)) {
+        if (id == resources.getInteger(R.integer.favorite_movies_loader_manager_id)) {
             loader = new FavoriteMovieLoaderTask(parentActivity.getApplicationContext());
+        } else if (id == resources.getInteger(R.integer.movie_list_refresh_loader_manager_id)) {
+            loader = sortType == MovieSortType.FAVORITES ?
+                    new FavoriteMovieLoaderTask(parentActivity.getApplicationContext()) :
+                    new MovieListLoader(this, args, errorHandler);
         }
 
         return loader;
     }
 
     /**
-     * Specifies what to do with the movie resources that were obtained from the server.
+     * Specifies what to do with the movie resources that were obtained by a loader.
      *
      * @param loader
-     * @param list
+     * @param moviePage
      */
     @Override
-    public void onLoadFinished(Loader<Movie[]> loader, Movie[] list) {
+    public void onLoadFinished(Loader<MoviePage> loader, MoviePage moviePage) {
         errorHandler.afterNetworkRequest();
 
+        //  refreshed pages are merged into a list which was restored from memory
+        Resources resources = parentActivity.getResources();
+        if (loader.getId() == resources.getInteger(R.integer.movie_list_refresh_loader_manager_id)) {
+            onFirstPageRefreshed(moviePage);
+            return;
+        }
+
         //  add all of the movies to the list
-        if (list != null) {
-            movieAdapter.setMoviesList(list);
+        if (moviePage != null) {
+            displayPage(moviePage);
+        } else {
+            displayNothing();
+        }
+    }
+
+    /**
+     * Displays a page of movies which was requested from the server.
+     *
+     * @param moviePage
+     */
+    @Override
+    public void onPageLoaded(MoviePage moviePage) {
+        pageFailureCount = 0;
+        displayPage(moviePage);
+    }
+
+    /**
+     * Drops the pages which were requested after the failed page and requests it again after a
+     * delay which doubles with every consecutive failure.  Once the retries are used up the page
+     * is only requested again when the user continues scrolling.
+     *
+     * @param page
+     */
+    @Override
+    public void onPageFailed(int page) {
+        pagePrefetcher.cancel();
+        currentPage = page;
+        lastPageFailureTime = SystemClock.uptimeMillis();
+        ++pageFailureCount;
+
+        retryHandler.removeCallbacks(retryFailedPage);
+        if (pageFailureCount <= MAX_PAGE_RETRY_COUNT) {
+            retryHandler.postDelayed(retryFailedPage, getPageRetryDelay());
+        }
+
+        displayNothing();
+    }
+
+    /**
+     * Determines how long to wait before requesting a failed page again.
+     *
+     * @return delay in milliseconds
+     */
+    private long getPageRetryDelay() {
+        int doublings = Math.max(0, Math.min(pageFailureCount, MAX_PAGE_RETRY_COUNT) - 1);
+
+        return PAGE_RETRY_DELAY << doublings;
+    }
+
+    /**
+     * Adds the movies to the list and updates the paging information.  The paging information is
+     * only ever updated here so that it is always modified on the UI thread.
+     *
+     * @param moviePage
+     */
+    private void displayPage(MoviePage moviePage) {
+        totalMovies = moviePage.totalResults;
+        if (sortType != MovieSortType.FAVORITES) {
+            totalPages = moviePage.totalPages;
+        }
+
+        if (shouldReplaceMovies) {
+            shouldReplaceMovies = false;
+            movieAdapter.replaceMoviesList(moviePage.movies, new Runnable() {
+                @Override
+                public void run() {
+                    scrollToPosition(0);
+                }
+            });
         } else {
-            String nothingToDisplayMessage = sortType == MovieSortType.FAVORITES ?
-                    getContext().getString(R.string.no_movies_favored_message) :
-                    NO_NETWORK_ERROR_MESSAGE;
-            Toast.makeText(parentActivity, nothingToDisplayMessage, Toast.LENGTH_SHORT).show();
+            movieAdapter.setMoviesList(moviePage.movies);
+        }
+    }
+
+    /**
+     * Lets the user know that no movies could be acquired.
+     *
+     */
+    private void displayNothing() {
+        //  the previous sort type should no longer be shown
+        if (shouldReplaceMovies) {
+            shouldReplaceMovies = false;
+            movieAdapter.empty();
         }
+
+        String nothingToDisplayMessage = sortType == MovieSortType.FAVORITES ?
+                getContext().getString(R.string.no_movies_favored_message) :
+                NO_NETWORK_ERROR_MESSAGE;
+        Toast.makeText(parentActivity, nothingToDisplayMessage, Toast.LENGTH_SHORT).show();
     }
 
     /**
@@ -215,12 +605,22 @@ public class MovieDbRequester
      * @param loader
      */
     @Override
-    public void onLoaderReset(Loader<Movie[]> loader) {
+    public void onLoaderReset(Loader<MoviePage> loader) {
         //  Intentionally left blank
     }
 
+    /**
+     * Retrieves the first page which has not been displayed yet.  Pages which are still being
+     * prefetched are not included since they will not be delivered once the requester is gone.
+     *
+     * @return index of the next page to display
+     */
     public int getCurrentPage() {
-        return currentPage;
+        if (sortType == MovieSortType.FAVORITES) {
+            return currentPage;
+        }
+
+        return currentPage - pagePrefetcher.getOutstandingPageCount();
     }
 
     public MovieSortType getSortType() {
@@ -244,10 +644,6 @@ public class MovieDbRequester
         this.totalPages = totalPages;
     }
 
-    public void setTotalMovies(int totalMovies) {
-        this.totalMovies = totalMovies;
-    }
-
     public int getTotalPages() {
         return totalPages;
     }
@@ -0,0 +1,42 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.moviedb;
+
+import com.travistorres.moviescout.utils.moviedb.models.Movie;
+
+/**
+ * MovieListSession
+ *
+ * Remembers everything that was loaded for a single sort type so that the list can be displayed
+ * again without requesting any of the pages from the server.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+final class MovieListSession {
+    final Movie[] movies;
+    final int currentPage;
+    final int totalPages;
+    final int totalMovies;
+    final int scrollPosition;
+
+    /**
+     * Captures the state of the movie list.
+     *
+     * @param movies All movies which have been loaded
+     * @param currentPage The next page to request
+     * @param totalPages
+     * @param totalMovies
+     * @param scrollPosition The first visible position in the list
+     */
+    MovieListSession(Movie[] movies, int currentPage, int totalPages, int totalMovies, int scrollPosition) {
+        this.movies = movies;
+        this.currentPage = currentPage;
+        this.totalPages = totalPages;
+        this.totalMovies = totalMovies;
+        this.scrollPosition = scrollPosition;
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.moviedb;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.SparseArray;
+
+import com.travistorres.moviescout.utils.moviedb.builders.MovieBuilder;
+import com.travistorres.moviescout.utils.moviedb.interfaces.MovieDbNetworkingErrorHandler;
+import com.travistorres.moviescout.utils.moviedb.interfaces.MoviePageListener;
+import com.travistorres.moviescout.utils.moviedb.models.MoviePage;
+import com.travistorres.moviescout.utils.tasks.CancellationToken;
+import com.travistorres.moviescout.utils.tasks.TaskPool;
+import com.travistorres.moviescout.utils.tasks.TaskPriority;
+import com.travistorres.moviescout.utils.tasks.TaskScheduler;
+
+import java.net.URL;
+import java.util.concurrent.Future;
+
+/**
+ * MoviePagePrefetcher
+ *
+ * Requests several pages of movies at the same time on the network pool of the TaskScheduler.
+ * Pages may finish in any order but are always delivered to the listener on the UI thread in the
+ * order that they were requested so that the list is never appended out of order.
+ *
+ * The time each page takes to arrive is measured so that callers can decide how far ahead of
+ * the user they need to request.
+ *
+ * All methods must be called from the UI thread.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class MoviePagePrefetcher {
+    private static final long INITIAL_PAGE_LATENCY = 500;
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.25;
+
+    private final Context context;
+    private final Handler mainHandler;
+    private final MovieDbNetworkingErrorHandler errorHandler;
+    private final MoviePageListener listener;
+    private final SparseArray<MoviePage> completedPages;
+    private final SparseArray<Future<?>> pendingRequests;
+
+    private CancellationToken cancellationToken;
+    private double averagePageLatency;
+    private int generation;
+    private int nextPageToDeliver;
+
+    /**
+     * Constructs a prefetcher which delivers its pages to a listener.
+     *
+     * @param context
+     * @param networkErrorHandler
+     * @param pageListener
+     */
+    public MoviePagePrefetcher(Context context, MovieDbNetworkingErrorHandler networkErrorHandler, MoviePageListener pageListener) {
+        this.context = context.getApplicationContext();
+        mainHandler = new Handler(Looper.getMainLooper());
+        errorHandler = networkErrorHandler;
+        listener = pageListener;
+        completedPages = new SparseArray<>();
+        pendingRequests = new SparseArray<>();
+        averagePageLatency = INITIAL_PAGE_LATENCY;
+        cancellationToken = new CancellationToken();
+    }
+
+    /**
+     * Requests a page of movies.  Pages must be requested in increasing order.  The first page
+     * which is requested while nothing is outstanding is needed by the user right away while the
+     * remaining pages are only prefetched.
+     *
+     * @param page The index of the page
+     * @param url The URL of the page
+     */
+    public void request(final int page, final URL url) {
+        //  delivery starts with the first page requested since the last one was delivered
+        TaskPriority priority = TaskPriority.PREFETCH;
+        if (getOutstandingPageCount() == 0) {
+            nextPageToDeliver = page;
+            priority = TaskPriority.VISIBLE;
+            errorHandler.beforeNetworkRequest();
+        }
+
+        final int requestGeneration = generation;
+        TaskScheduler taskScheduler = TaskScheduler.getInstance();
+        Future<?> future = taskScheduler.submit(TaskPool.NETWORK, priority, cancellationToken, new Runnable() {
+            @Override
+            public void run() {
+                long startTime = SystemClock.elapsedRealtime();
+                final MoviePage moviePage = MovieBuilder.createMoviePage(context, errorHandler, url);
+                final long latency = SystemClock.elapsedRealtime() - startTime;
+
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        onPageCompleted(requestGeneration, page, moviePage, latency);
+                    }
+                });
+            }
+        });
+        pendingRequests.put(page, future);
+    }
+
+    /**
+     * Stops delivering every page which has been requested but not yet delivered.
+     *
+     */
+    public void cancel() {
+        boolean wasRequesting = getOutstandingPageCount() > 0;
+
+        ++generation;
+        cancellationToken.cancel();
+        cancellationToken = new CancellationToken();
+        pendingRequests.clear();
+        completedPages.clear();
+
+        if (wasRequesting) {
+            errorHandler.afterNetworkRequest();
+        }
+    }
+
+    /**
+     * Number of pages which have been requested but not yet delivered.
+     *
+     * @return count of pages in flight or waiting on an earlier page
+     */
+    public int getOutstandingPageCount() {
+        return pendingRequests.size() + completedPages.size();
+    }
+
+    /**
+     * Smoothed time it takes for a page to be acquired.
+     *
+     * @return average latency in milliseconds
+     */
+    public long getAveragePageLatency() {
+        return Math.round(averagePageLatency);
+    }
+
+    /**
+     * Stores a completed page and delivers every page which is now next in order.
+     *
+     * @param requestGeneration
+     * @param page
+     * @param moviePage The page or null if the request failed
+     * @param latency
+     */
+    private void onPageCompleted(int requestGeneration, int page, MoviePage moviePage, long latency) {
+        //  the request was cancelled
+        if (requestGeneration != generation) {
+            return;
+        }
+
+        averagePageLatency += LATENCY_SMOOTHING_FACTOR * (latency - averagePageLatency);
+        pendingRequests.remove(page);
+        completedPages.put(page, moviePage);
+
+        while (completedPages.indexOfKey(nextPageToDeliver) >= 0) {
+            int deliveredPage = nextPageToDeliver;
+            MoviePage deliveredMoviePage = completedPages.get(deliveredPage);
+            completedPages.remove(deliveredPage);
+            ++nextPageToDeliver;
+
+            if (getOutstandingPageCount() == 0) {
+                errorHandler.afterNetworkRequest();
+            }
+
+            if (deliveredMoviePage != null) {
+                listener.onPageLoaded(deliveredMoviePage);
+            } else {
+                listener.onPageFailed(deliveredPage);
+            }
+
+            //  the listener may have cancelled the remaining pages
+            if (requestGeneration != generation) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.moviedb.adapters;
+
+import android.support.v7.util.DiffUtil;
+
+import com.travistorres.moviescout.utils.moviedb.models.Movie;
+
+import java.util.List;
+
+/**
+ * MovieDiffCallback
+ *
+ * Compares two lists of movies so that only the rows which actually changed need to be updated.
+ * Movies are matched by their movie id so that a movie which appears in both lists keeps its
+ * row and poster.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+class MovieDiffCallback extends DiffUtil.Callback {
+    private final List<Movie> oldList;
+    private final List<Movie> newList;
+
+    /**
+     * Specifies the lists to compare.
+     *
+     * @param previousList The movies currently displayed
+     * @param replacementList The movies which will be displayed
+     */
+    MovieDiffCallback(List<Movie> previousList, List<Movie> replacementList) {
+        oldList = previousList;
+        newList = replacementList;
+    }
+
+    @Override
+    public int getOldListSize() {
+        return oldList.size();
+    }
+
+    @Override
+    public int getNewListSize() {
+        return newList.size();
+    }
+
+    /**
+     * Determines if both positions refer to the same movie.
+     *
+     * @param oldItemPosition
+     * @param newItemPosition
+     *
+     * @return true when the movie ids match
+     */
+    @Override
+    public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+        return oldList.get(oldItemPosition).id == newList.get(newItemPosition).id;
+    }
+
+    /**
+     * Determines if the movie needs to be rebound.
+     *
+     * @param oldItemPosition
+     * @param newItemPosition
+     *
+     * @return true when none of the movie details have changed
+     */
+    @Override
+    public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+        return oldList.get(oldItemPosition).equals(newList.get(newItemPosition));
+    }
+}
@@ -5,17 +5,27 @@
 package com.travistorres.moviescout.utils.moviedb.adapters;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.v7.util.DiffUtil;
+import android.support.v7.widget.GridLayoutManager;
 import android.support.v7.widget.RecyclerView;
+import android.util.SparseIntArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 
 import com.travistorres.moviescout.R;
+import com.travistorres.moviescout.utils.images.ImageSizeSelector;
 import com.travistorres.moviescout.utils.moviedb.MovieDbRequester;
 import com.travistorres.moviescout.utils.moviedb.interfaces.MovieClickedListener;
 import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.tasks.TaskPool;
+import com.travistorres.moviescout.utils.tasks.TaskPriority;
+import com.travistorres.moviescout.utils.tasks.TaskScheduler;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Maps the results of the provided MovieList data set to the ActivityView in an efficient manner.
@@ -25,9 +35,15 @@ import java.util.ArrayList;
  */
 
 public class MovieListAdapter extends RecyclerView.Adapter<MovieListItemViewHolder> {
-    private static final int REMAINING_ITEMS_REFRESH_LIMIT = 5;
-
     ArrayList<Movie> movieList;
+    SparseIntArray moviePositions;
+
+    private ArrayList<Movie[]> pendingPages;
+    private int replacementGeneration;
+    private int posterWidth;
+    private int columnCount;
+    private int prefetchedPosition;
+    private final int prefetchRowCount;
 
     final MovieClickedListener clickHandler;
     final MovieDbRequester movieRequester;
@@ -41,6 +57,12 @@ public class MovieListAdapter extends RecyclerView.Adapter<MovieListItemViewHold
     public MovieListAdapter(MovieClickedListener onClickListener, MovieDbRequester requester) {
         clickHandler = onClickListener;
         movieRequester = requester;
+        columnCount = 1;
+        prefetchedPosition = -1;
+        prefetchRowCount = requester.getContext().getResources().getInteger(R.integer.movie_grid_poster_prefetch_row_count);
+
+        //  rows are identified by movie so that appending a page does not rebind existing rows
+        setHasStableIds(true);
     }
 
     /**
@@ -57,6 +79,17 @@ public class MovieListAdapter extends RecyclerView.Adapter<MovieListItemViewHold
         LayoutInflater inflater = LayoutInflater.from(context);
         View view = inflater.inflate(R.layout.movie_list_item, parent, false);
 
+        //  posters are sized to the width of a single column of the grid
+        if (parent instanceof RecyclerView) {
+            RecyclerView.LayoutManager layoutManager = ((RecyclerView) parent).getLayoutManager();
+            if (layoutManager instanceof GridLayoutManager) {
+                columnCount = ((GridLayoutManager) layoutManager).getSpanCount();
+            }
+        }
+        if (parent.getWidth() > 0) {
+            posterWidth = parent.getWidth() / columnCount;
+        }
+
         return new MovieListItemViewHolder(view, this);
     }
 
@@ -70,12 +103,54 @@ public class MovieListAdapter extends RecyclerView.Adapter<MovieListItemViewHold
     public void onBindViewHolder(MovieListItemViewHolder holder, int position) {
         Context context = movieRequester.getContext();
         Movie currentMovie = movieList.get(position);
-        currentMovie.loadPosterIntoImageView(context, holder.mPosterImageView);
+        int width = getPosterWidth(holder);
+        currentMovie.loadPosterIntoImageView(context, holder.mPosterImageView, width);
+        prefetchPosters(context, position, width);
 
-        //  acquire more results when nearing the end of the list
-        if (position == getItemCount() - REMAINING_ITEMS_REFRESH_LIMIT) {
-            movieRequester.requestNext();
+        //  allows more results to be acquired when nearing the end of the list
+        movieRequester.onMovieBound(position, getItemCount());
+    }
+
+    /**
+     * Determines the width posters are displayed at.
+     *
+     * @param holder
+     *
+     * @return width in pixels
+     */
+    private int getPosterWidth(MovieListItemViewHolder holder) {
+        return posterWidth > 0 ?
+                posterWidth :
+                ImageSizeSelector.getTargetWidth(holder.mPosterImageView, ImageSizeSelector.getScreenWidth(holder.itemView.getContext()) / columnCount);
+    }
+
+    /**
+     * Downloads the posters of the next rows of the grid before they are scrolled into view.
+     * Posters which have already been prefetched are not requested again.
+     *
+     * @param context
+     * @param position The position which was just bound
+     * @param width The width posters are displayed at
+     */
+    private void prefetchPosters(Context context, int position, int width) {
+        int lastPosition = Math.min(getItemCount() - 1, position + prefetchRowCount * columnCount);
+        for (int i = Math.max(position + 1, prefetchedPosition + 1); i <= lastPosition; ++i) {
+            movieList.get(i).prefetchPoster(context, width);
         }
+
+        prefetchedPosition = Math.max(prefetchedPosition, lastPosition);
+    }
+
+    /**
+     * Identifies the row by the movie id which is assigned by the server.
+     *
+     * @param position
+     *
+     * @return The id of the movie at the position
+     */
+    @Override
+    public long getItemId(int position) {
+        return movieList.get(position).id;
     }
 
     /**
@@ -104,24 +179,84 @@ public class MovieListAdapter extends RecyclerView.Adapter<MovieListItemViewHold
     }
 
     /**
-     * Updates the movie data set.
+     * Updates the movie data set.  Movies which are already listed, as identified by their movie
+     * id, will not be added a second time.
      *
      * @param list
      */
     public void setMoviesList(Movie[] list) {
+        //  pages which arrive while a replacement is being diffed are appended afterwards
+        if (pendingPages != null) {
+            pendingPages.add(list);
+            return;
+        }
+
         //  allocates memory for an ArrayList
         if (movieList == null) {
             movieList = new ArrayList<>();
+            moviePositions = new SparseIntArray();
         }
 
-        //  stores all contents within the list
+        //  stores all contents within the list using the id index to skip duplicates
+        int positionStart = movieList.size();
         for (Movie movie : list) {
-            if (!movieList.contains(movie)) {
+            if (moviePositions.indexOfKey(movie.id) < 0) {
+                moviePositions.put(movie.id, movieList.size());
                 movieList.add(movie);
             }
         }
 
-        notifyDataSetChanged();
+        //  only the appended rows need to be laid out and bound
+        int insertedCount = movieList.size() - positionStart;
+        if (insertedCount > 0) {
+            notifyItemRangeInserted(positionStart, insertedCount);
+        }
+    }
+
+    /**
+     * Replaces the movie data set.  The differences between the current and the new list are
+     * calculated on a background thread and then dispatched as individual moves, insertions and
+     * removals so that movies which appear in both lists keep their rows.
+     *
+     * @param list
+     */
+    public void replaceMoviesList(Movie[] list) {
+        replaceMoviesList(list, null);
+    }
+
+    /**
+     * Replaces the movie data set and runs an action once the replacement is displayed.  The
+     * action is never run if the replacement is superseded before it completes.
+     *
+     * @param list
+     * @param onReplaced Action to perform on the UI thread after the replacement, or null
+     */
+    public void replaceMoviesList(Movie[] list, Runnable onReplaced) {
+        //  any replacement which is still being calculated is now out of date
+        ++replacementGeneration;
+        pendingPages = null;
+
+        //  nothing is displayed so there is nothing to reconcile
+        if (movieList == null || movieList.isEmpty()) {
+            setMoviesList(list);
+            if (onReplaced != null) {
+                onReplaced.run();
+            }
+            return;
+        }
+
+        pendingPages = new ArrayList<>();
+        ReplaceMoviesTask task = new ReplaceMoviesTask(replacementGeneration, movieList, list, onReplaced);
+        TaskScheduler.getInstance().submit(TaskPool.COMPUTE, TaskPriority.VISIBLE, null, task);
+    }
+
+    /**
+     * Determines if a replacement list is still being reconciled with the displayed movies.
+     *
+     * @return true while the displayed movies are about to be replaced
+     */
+    public boolean isReplacing() {
+        return pendingPages != null;
     }
 
     /**
@@ -129,7 +264,102 @@ public class MovieListAdapter extends RecyclerView.Adapter<MovieListItemViewHold
      *
      */
     public void empty() {
+        ++replacementGeneration;
+        pendingPages = null;
+
+        int removedCount = getItemCount();
         movieList = null;
-        notifyDataSetChanged();
+        moviePositions = null;
+        prefetchedPosition = -1;
+
+        if (removedCount > 0) {
+            notifyItemRangeRemoved(0, removedCount);
+        }
+    }
+
+    /**
+     * ReplaceMoviesTask
+     *
+     * Calculates the difference between the displayed movies and their replacement away from
+     * the UI thread.
+     *
+     */
+    private class ReplaceMoviesTask implements Runnable {
+        private final int generation;
+        private final List<Movie> previousList;
+        private final Movie[] replacement;
+        private final Runnable onReplaced;
+        private ArrayList<Movie> replacementList;
+        private SparseIntArray replacementPositions;
+
+        /**
+         * Specifies the lists to reconcile.
+         *
+         * @param generation Identifies the replacement so that outdated results are ignored
+         * @param previousList The movies currently displayed.  Must not be modified until the
+         *                     task completes.
+         * @param replacement The movies which should be displayed
+         * @param onReplaced Action to perform after the replacement, or null
+         */
+        ReplaceMoviesTask(int generation, List<Movie> previousList, Movie[] replacement, Runnable onReplaced) {
+            this.generation = generation;
+            this.previousList = previousList;
+            this.replacement = replacement;
+            this.onReplaced = onReplaced;
+        }
+
+        /**
+         * Removes duplicate movies from the replacement and compares it with the displayed list and
+         * then hands the result back to the UI thread.
+         *
+         */
+        @Override
+        public void run() {
+            replacementList = new ArrayList<>(replacement.length);
+            replacementPositions = new SparseIntArray(replacement.length);
+            for (Movie movie : replacement) {
+                if (replacementPositions.indexOfKey(movie.id) < 0) {
+                    replacementPositions.put(movie.id, replacementList.size());
+                    replacementList.add(movie);
+                }
+            }
+
+            MovieDiffCallback callback = new MovieDiffCallback(previousList, replacementList);
+            final DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(callback, true);
+
+            new Handler(Looper.getMainLooper()).post(new Runnable() {
+                @Override
+                public void run() {
+                    onDiffCalculated(diffResult);
+                }
+            });
+        }
+
+        /**
+         * Swaps in the replacement and notifies the RecyclerView of each change.
+         *
+         * @param diffResult
+         */
+        private void onDiffCalculated(DiffUtil.DiffResult diffResult) {
+            if (generation != replacementGeneration) {
+                return;
+            }
+
+            ArrayList<Movie[]> queuedPages = pendingPages;
+            pendingPages = null;
+            movieList = replacementList;
+            moviePositions = replacementPositions;
+            prefetchedPosition = -1;
+            diffResult.dispatchUpdatesTo(MovieListAdapter.this);
+
+            //  append the pages that were received while calculating the difference
+            for (Movie[] page : queuedPages) {
+                setMoviesList(page);
+            }
+
+            if (onReplaced != null) {
+                onReplaced.run();
+            }
+        }
     }
 }
@@ -94,11 +94,15 @@ public class ReviewListAdapter extends RecyclerView.Adapter<ReviewListItemViewHo
             reviewList = new ArrayList<>(reviews.length);
         }
 
+        int positionStart = reviewList.size();
         for (int i = 0; i < reviews.length; ++i) {
             Review review = reviews[i];
             reviewList.add(review);
         }
 
-        notifyDataSetChanged();
+        //  only the appended rows need to be laid out and bound
+        if (reviews.length > 0) {
+            notifyItemRangeInserted(positionStart, reviews.length);
+        }
     }
 }
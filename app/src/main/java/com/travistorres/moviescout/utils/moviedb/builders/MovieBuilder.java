@@ -7,16 +7,26 @@ package com.travistorres.moviescout.utils.moviedb.builders;
 import android.content.Context;
 
 import com.travistorres.moviescout.R;
+import com.travistorres.moviescout.utils.moviedb.interfaces.MovieDbNetworkingErrorHandler;
 import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.moviedb.models.MoviePage;
+import com.travistorres.moviescout.utils.networking.NetworkManager;
+import com.travistorres.moviescout.utils.networking.exceptions.HttpConnectionTimeoutException;
+import com.travistorres.moviescout.utils.networking.exceptions.HttpPageNotFoundException;
+import com.travistorres.moviescout.utils.networking.exceptions.HttpUnauthorizedException;
+import com.travistorres.moviescout.utils.networking.exceptions.NetworkingException;
 
-import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.net.URL;
+
 /**
  * MovieBuilder
  *
- * Constructs movies from JSON objects that are provided from the movie db server.
+ * Constructs movies from JSON objects that are provided from the movie db server.  Entire pages
+ * of movies are requested and read with the MovieListResponseParser.
  *
  * @author Travis Anthony Torres
  * @version April 30, 2017
@@ -24,79 +34,36 @@ import org.json.JSONObject;
 
 public class MovieBuilder {
     /**
-     * Total results from the requests.
+     * Requests a page of movies from the server.
      *
      * @param context
-     * @param json
+     * @param errorHandler
+     * @param url The URL of the page
      *
-     * @return Number of movies on the server
+     * @return The page of movies or null if it could not be acquired
      */
-    public static int totalResults(Context context, String json) {
-        return getNumberFromResponse(context, json, R.string.movie_parser_json_total_results);
-    }
-
-    /**
-     * Total pages in the response.
-     *
-     * @param context
-     * @param json
-     *
-     * @return Extracts the total number of pages from the json request
-     */
-    public static int totalPages(Context context, String json) {
-        return getNumberFromResponse(context, json, R.string.movie_parser_json_total_pages);
-    }
-
-    /**
-     * Acquires an integral value from the response based on some resource string.
-     *
-     * @param context
-     * @param json
-     * @param resource
-     *
-     * @return Integral value
-     */
-    private static int getNumberFromResponse(Context context, String json, int resource) {
-        int numericValue = -1;
+    public static MoviePage createMoviePage(Context context, MovieDbNetworkingErrorHandler errorHandler, URL url) {
+        MoviePage moviePage = null;
 
         try {
-            JSONObject jsonObject = new JSONObject(json);
-            numericValue = jsonObject.getInt(context.getString(resource));
-        } catch (JSONException e) {
+            MovieListResponseParser parser = new MovieListResponseParser(context);
+            moviePage = NetworkManager.request(url, parser);
+        } catch (IOException e) {
             e.printStackTrace();
-        }
-
-        return numericValue;
-    }
-
-    /**
-     * Constructs an array of movies based on a given json object.
-     *
-     * @param context
-     * @param jsonObject
-     *
-     * @return array of movies
-     */
-    public static Movie[] createMovies(Context context, String jsonObject) {
-        Movie[] movies = null;
-
-        try {
-            String resultsKey = context.getString(R.string.movie_parser_json_results);
-            JSONObject parser = new JSONObject(jsonObject);
-            JSONArray resultArray = parser.optJSONArray(resultsKey);
-            int listSize = resultArray.length();
-
-            //  map the JSON results to the movie array
-            movies = new Movie[listSize];
-            for (int i = 0; i < listSize; ++i) {
-                JSONObject movieJson = (JSONObject) resultArray.get(i);
-                movies[i] = createMovie(context, movieJson);
-            }
-        } catch (JSONException e) {
+        } catch (HttpConnectionTimeoutException e) {
+            e.printStackTrace();
+        } catch (HttpPageNotFoundException e) {
+            e.printStackTrace();
+            errorHandler.onPageNotFound();
+        } catch (HttpUnauthorizedException e) {
+            e.printStackTrace();
+            errorHandler.onUnauthorizedAccess();
+        } catch (NetworkingException e) {
             e.printStackTrace();
+            errorHandler.onGeneralNetworkingError();
         }
 
-        return movies;
+        return moviePage;
     }
 
     /**
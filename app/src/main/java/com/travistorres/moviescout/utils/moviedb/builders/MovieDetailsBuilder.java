@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.moviedb.builders;
+
+import android.content.Context;
+
+import com.travistorres.moviescout.R;
+import com.travistorres.moviescout.utils.moviedb.interfaces.MovieDbNetworkingErrorHandler;
+import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.moviedb.models.MovieDetails;
+import com.travistorres.moviescout.utils.moviedb.models.Review;
+import com.travistorres.moviescout.utils.moviedb.models.Trailer;
+import com.travistorres.moviescout.utils.networking.NetworkManager;
+import com.travistorres.moviescout.utils.networking.UrlManager;
+import com.travistorres.moviescout.utils.networking.exceptions.HttpConnectionTimeoutException;
+import com.travistorres.moviescout.utils.networking.exceptions.HttpPageNotFoundException;
+import com.travistorres.moviescout.utils.networking.exceptions.HttpUnauthorizedException;
+import com.travistorres.moviescout.utils.networking.exceptions.NetworkingException;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * MovieDetailsBuilder
+ *
+ * Constructs the details of a movie from a single response of the movie db server in which the
+ * trailers and reviews of the movie are embedded.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class MovieDetailsBuilder {
+    /**
+     * Requests the details of a movie along with its trailers and reviews.
+     *
+     * @param context
+     * @param errorHandler
+     * @param movie
+     * @param versionThreeApiKey
+     *
+     * @return The details of the movie or null if they could not be acquired
+     */
+    public static MovieDetails createMovieDetails(Context context, MovieDbNetworkingErrorHandler errorHandler, Movie movie, String versionThreeApiKey) {
+        MovieDetails movieDetails = null;
+        UrlManager urlManager = UrlManager.getInstance(context);
+        URL detailsUrl = urlManager.getMovieDetailsUrl(movie, versionThreeApiKey);
+
+        try {
+            String json = NetworkManager.request(detailsUrl);
+            if (json != null) {
+                JSONObject jsonObject = new JSONObject(json);
+                movieDetails = createMovieDetailsFromJson(context, jsonObject);
+            }
+        } catch (JSONException e) {
+            e.printStackTrace();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } catch (HttpConnectionTimeoutException e) {
+            e.printStackTrace();
+        } catch (HttpPageNotFoundException e) {
+            e.printStackTrace();
+            errorHandler.onPageNotFound();
+        } catch (HttpUnauthorizedException e) {
+            e.printStackTrace();
+            errorHandler.onUnauthorizedAccess();
+        } catch (NetworkingException e) {
+            e.printStackTrace();
+            errorHandler.onGeneralNetworkingError();
+        }
+
+        return movieDetails;
+    }
+
+    /**
+     * Constructs the details of a movie from the JSON response of the movie db server.  The
+     * trailers and reviews are read from the objects which were appended to the response.
+     *
+     * @param context
+     * @param jsonObject
+     *
+     * @return The details of the movie
+     *
+     * @throws JSONException
+     */
+    public static MovieDetails createMovieDetailsFromJson(Context context, JSONObject jsonObject)
+            throws JSONException {
+        Movie movie = MovieBuilder.createMovie(context, jsonObject);
+
+        Trailer[] trailers = null;
+        JSONObject videos = jsonObject.optJSONObject(context.getString(R.string.movie_details_json_videos));
+        if (videos != null) {
+            trailers = TrailerBuilder.createTrailersArrayFromJson(context, videos);
+        }
+
+        Review[] reviews = null;
+        JSONObject reviewResults = jsonObject.optJSONObject(context.getString(R.string.movie_details_json_reviews));
+        if (reviewResults != null) {
+            reviews = ReviewBuilder.createReviewsArrayFromJson(context, reviewResults);
+        }
+
+        return new MovieDetails(movie, trailers, reviews);
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.moviedb.builders;
+
+import android.content.Context;
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import com.travistorres.moviescout.R;
+import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.moviedb.models.MoviePage;
+import com.travistorres.moviescout.utils.networking.interfaces.ResponseParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MovieListResponseParser
+ *
+ * Reads a page of movies directly from the response stream of the movie db server.  The movies
+ * and the paging information are all extracted in a single pass without ever building the
+ * response as a String or as a JSON tree.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class MovieListResponseParser implements ResponseParser<MoviePage> {
+    private static final String CHARSET = "UTF-8";
+
+    private final String resultsKey;
+    private final String pageKey;
+    private final String totalPagesKey;
+    private final String totalResultsKey;
+    private final String posterPathKey;
+    private final String adultKey;
+    private final String overviewKey;
+    private final String releaseDateKey;
+    private final String idKey;
+    private final String originalTitleKey;
+    private final String originalLanguageKey;
+    private final String titleKey;
+    private final String backdropPathKey;
+    private final String popularityKey;
+    private final String voteCountKey;
+    private final String videoKey;
+    private final String voteAverageKey;
+    private final String pathPrefix;
+    private final String noCharacter;
+
+    /**
+     * Resolves all of the keys which are used by the response so that they are not looked up
+     * for every movie.
+     *
+     * @param context
+     */
+    public MovieListResponseParser(Context context) {
+        resultsKey = context.getString(R.string.movie_parser_json_results);
+        pageKey = context.getString(R.string.movie_parser_json_page);
+        totalPagesKey = context.getString(R.string.movie_parser_json_total_pages);
+        totalResultsKey = context.getString(R.string.movie_parser_json_total_results);
+        posterPathKey = context.getString(R.string.movie_parser_json_poster_path);
+        adultKey = context.getString(R.string.movie_parser_json_adult);
+        overviewKey = context.getString(R.string.movie_parser_json_overview);
+        releaseDateKey = context.getString(R.string.movie_parser_json_release_date);
+        idKey = context.getString(R.string.movie_parser_json_id);
+        originalTitleKey = context.getString(R.string.movie_parser_json_original_title);
+        originalLanguageKey = context.getString(R.string.movie_parser_json_original_language);
+        titleKey = context.getString(R.string.movie_parser_json_title);
+        backdropPathKey = context.getString(R.string.movie_parser_json_backdrop_path);
+        popularityKey = context.getString(R.string.movie_parser_json_popularity);
+        voteCountKey = context.getString(R.string.movie_parser_json_vote_count);
+        videoKey = context.getString(R.string.movie_parser_json_video);
+        voteAverageKey = context.getString(R.string.movie_parser_json_vote_average);
+        pathPrefix = context.getString(R.string.movie_parser_json_poster_path_prefix);
+        noCharacter = context.getString(R.string.movie_parser_json_poster_path_prefix_off);
+    }
+
+    /**
+     * Reads the movies and paging information from the response.
+     *
+     * @param response
+     *
+     * @return The page of movies or null if the response did not contain any results
+     *
+     * @throws IOException When the response is not formatted as expected
+     */
+    @Override
+    public MoviePage parse(InputStream response) throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(response, CHARSET));
+        try {
+            return readPage(reader);
+        } catch (IllegalStateException | NumberFormatException e) {
+            //  thrown by the reader when a value is not of the expected type
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Reads the movies and paging information from the top level object of the response.
+     *
+     * @param reader
+     *
+     * @return The page of movies or null if the response did not contain any results
+     *
+     * @throws IOException
+     */
+    private MoviePage readPage(JsonReader reader) throws IOException {
+        Movie[] movies = null;
+        int page = -1;
+        int totalPages = -1;
+        int totalResults = -1;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals(resultsKey)) {
+                movies = readMovies(reader);
+            } else if (name.equals(pageKey)) {
+                page = reader.nextInt();
+            } else if (name.equals(totalPagesKey)) {
+                totalPages = reader.nextInt();
+            } else if (name.equals(totalResultsKey)) {
+                totalResults = reader.nextInt();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return (movies != null) ?
+                new MoviePage(movies, page, totalPages, totalResults) :
+                null;
+    }
+
+    /**
+     * Reads every movie within the results array.
+     *
+     * @param reader
+     *
+     * @return array of movies
+     *
+     * @throws IOException
+     */
+    private Movie[] readMovies(JsonReader reader) throws IOException {
+        List<Movie> movies = new ArrayList<>();
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            movies.add(readMovie(reader));
+        }
+        reader.endArray();
+
+        return movies.toArray(new Movie[movies.size()]);
+    }
+
+    /**
+     * Maps a single JSON movie object onto a Movie.
+     *
+     * @param reader
+     *
+     * @return movie object
+     *
+     * @throws IOException
+     */
+    private Movie readMovie(JsonReader reader) throws IOException {
+        Movie movie = new Movie();
+        movie.genreIds = new int[1];
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+
+            //  missing values will simply leave the field at its default
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+            } else if (name.equals(posterPathKey)) {
+                movie.posterPath = reader.nextString().replace(pathPrefix, noCharacter);
+            } else if (name.equals(adultKey)) {
+                movie.isAdultFilm = reader.nextBoolean();
+            } else if (name.equals(overviewKey)) {
+                movie.overview = reader.nextString();
+            } else if (name.equals(releaseDateKey)) {
+                movie.releaseDate = reader.nextString();
+            } else if (name.equals(idKey)) {
+                movie.id = reader.nextInt();
+            } else if (name.equals(originalTitleKey)) {
+                movie.originalTitle = reader.nextString();
+            } else if (name.equals(originalLanguageKey)) {
+                movie.originalLanguage = reader.nextString();
+            } else if (name.equals(titleKey)) {
+                movie.title = reader.nextString();
+            } else if (name.equals(backdropPathKey)) {
+                movie.backdropPath = reader.nextString().replace(pathPrefix, noCharacter);
+            } else if (name.equals(popularityKey)) {
+                movie.popularity = reader.nextDouble();
+            } else if (name.equals(voteCountKey)) {
+                movie.voteCount = reader.nextInt();
+            } else if (name.equals(videoKey)) {
+                movie.hasVideo = reader.nextBoolean();
+            } else if (name.equals(voteAverageKey)) {
+                movie.voteAverage = reader.nextDouble();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return movie;
+    }
+}
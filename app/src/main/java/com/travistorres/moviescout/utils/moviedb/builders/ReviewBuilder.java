@@ -7,23 +7,12 @@ package com.travistorres.moviescout.utils.moviedb.builders;
 import android.content.Context;
 
 import com.travistorres.moviescout.R;
-import com.travistorres.moviescout.utils.networking.UrlManager;
-import com.travistorres.moviescout.utils.moviedb.interfaces.MovieDbNetworkingErrorHandler;
-import com.travistorres.moviescout.utils.moviedb.models.Movie;
 import com.travistorres.moviescout.utils.moviedb.models.Review;
-import com.travistorres.moviescout.utils.networking.NetworkManager;
-import com.travistorres.moviescout.utils.networking.exceptions.HttpConnectionTimeoutException;
-import com.travistorres.moviescout.utils.networking.exceptions.HttpPageNotFoundException;
-import com.travistorres.moviescout.utils.networking.exceptions.HttpUnauthorizedException;
-import com.travistorres.moviescout.utils.networking.exceptions.NetworkingException;
 
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
-import java.io.IOException;
-import java.net.URL;
-
 /**
  * ReviewBuilder
  *
@@ -34,45 +23,6 @@ import java.net.URL;
  */
 
 public class ReviewBuilder {
-    /**
-     * Creates an array of Reviews that are associated with a specified Movie instance.
-     *
-     * @param context
-     * @param movie
-     * @param apiKey
-     *
-     * @return Array of Reviews for the provided Movie.
-     */
-    public static final Review[] createReviewsForMovie(Context context, MovieDbNetworkingErrorHandler errorHandler, Movie movie, String apiKey) {
-        Review[] reviews = null;
-        UrlManager urlManager = new UrlManager(context);
-        URL reviewsUrl = urlManager.getMovieReviewsUrl(movie, apiKey);
-
-        try {
-            String jsonResults = NetworkManager.request(reviewsUrl);
-            JSONObject jsonObject = new JSONObject(jsonResults);
-
-            reviews = createReviewsArrayFromJson(context, jsonObject);
-        } catch (JSONException e) {
-            e.printStackTrace();
-        } catch (IOException e) {
-            e.printStackTrace();
-        } catch (HttpConnectionTimeoutException e) {
-            e.printStackTrace();
-        } catch (HttpPageNotFoundException e) {
-            e.printStackTrace();
-            errorHandler.onPageNotFound();
-        } catch (HttpUnauthorizedException e) {
-            e.printStackTrace();
-            errorHandler.onUnauthorizedAccess();
-        } catch (NetworkingException e) {
-            e.printStackTrace();
-            errorHandler.onGeneralNetworkingError();
-        }
-
-        return reviews;
-    }
-
     /**
      * Will construct an array of Reviews based on the data provided by some given JsonObject that
      * was acquired from MovieDbApi.org.
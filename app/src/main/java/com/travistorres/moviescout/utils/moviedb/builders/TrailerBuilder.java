@@ -7,23 +7,12 @@ package com.travistorres.moviescout.utils.moviedb.builders;
 import android.content.Context;
 
 import com.travistorres.moviescout.R;
-import com.travistorres.moviescout.utils.networking.UrlManager;
-import com.travistorres.moviescout.utils.moviedb.interfaces.MovieDbNetworkingErrorHandler;
-import com.travistorres.moviescout.utils.moviedb.models.Movie;
 import com.travistorres.moviescout.utils.moviedb.models.Trailer;
-import com.travistorres.moviescout.utils.networking.NetworkManager;
-import com.travistorres.moviescout.utils.networking.exceptions.HttpConnectionTimeoutException;
-import com.travistorres.moviescout.utils.networking.exceptions.HttpPageNotFoundException;
-import com.travistorres.moviescout.utils.networking.exceptions.HttpUnauthorizedException;
-import com.travistorres.moviescout.utils.networking.exceptions.NetworkingException;
 
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
-import java.io.IOException;
-import java.net.URL;
-
 /**
  * TrailerBuilder
  *
@@ -35,46 +24,21 @@ import java.net.URL;
 
 public class TrailerBuilder {
     /**
-     * Creates an array of Trailers that are located on the movie servers for a particular Movie
-     * instance.
+     * Will construct an array of Trailers based on the data provided by some given JsonObject that
+     * was acquired from MovieDbApi.org.
      *
      * @param context
-     * @param movie
-     * @param errorHandler
+     * @param jsonObject
+     *
+     * @return Array of Trailers or null if no trailers could be constructed.
      *
-     * @return An array of trailers acquired from the movie server or null if no trailers are
-     * associated with the Movie.
+     * @throws JSONException
      */
-    public static Trailer[] createTrailersArray(Context context, Movie movie, MovieDbNetworkingErrorHandler errorHandler, String versionThreeApiKey) {
-        UrlManager urlManager = new UrlManager(context);
-        URL trailerRequestUrl = urlManager.getTrailersUrl(movie, versionThreeApiKey);
-        Trailer[] trailers = null;
-
-        try {
-            String json = NetworkManager.request(trailerRequestUrl);
-            if (json != null) {
-                JSONObject jsonData = new JSONObject(json);
-                JSONArray resultsArray = jsonData.getJSONArray(context.getString(R.string.movie_trailer_json_results));
-                trailers = constructTrailers(context, resultsArray);
-            }
-        } catch (JSONException e) {
-            e.printStackTrace();
-        } catch (IOException e) {
-            e.printStackTrace();
-        } catch (HttpConnectionTimeoutException e) {
-            e.printStackTrace();
-        } catch (HttpPageNotFoundException e) {
-            e.printStackTrace();
-            errorHandler.onPageNotFound();
-        } catch (HttpUnauthorizedException e) {
-            e.printStackTrace();
-            errorHandler.onUnauthorizedAccess();
-        } catch (NetworkingException e) {
-            e.printStackTrace();
-            errorHandler.onGeneralNetworkingError();
-        }
+    public static Trailer[] createTrailersArrayFromJson(Context context, JSONObject jsonObject)
+            throws JSONException {
+        JSONArray resultsArray = jsonObject.getJSONArray(context.getString(R.string.movie_trailer_json_results));
 
-        return trailers;
+        return constructTrailers(context, resultsArray);
     }
 
     /**
@@ -0,0 +1,20 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.moviedb.interfaces;
+
+/**
+ * MovieListScrollHandler
+ *
+ * Provides access to the scroll position of the view displaying the movie list so that it can be
+ * remembered and restored when switching between sort types.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public interface MovieListScrollHandler {
+    int getScrollPosition();
+    void scrollToPosition(int position);
+}
@@ -0,0 +1,22 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.moviedb.interfaces;
+
+import com.travistorres.moviescout.utils.moviedb.models.MoviePage;
+
+/**
+ * MoviePageListener
+ *
+ * Receives the pages of movies which were requested in the background.  Pages are always
+ * delivered on the UI thread in the order that they were requested.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public interface MoviePageListener {
+    void onPageLoaded(MoviePage moviePage);
+    void onPageFailed(int page);
+}
@@ -5,9 +5,12 @@
 package com.travistorres.moviescout.utils.moviedb.loaders;
 
 import android.content.Context;
-import android.support.v4.content.AsyncTaskLoader;
 
 import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.moviedb.models.MoviePage;
+import com.travistorres.moviescout.utils.tasks.ScheduledTaskLoader;
+import com.travistorres.moviescout.utils.tasks.TaskPool;
+import com.travistorres.moviescout.utils.tasks.TaskPriority;
 import com.travistorres.moviescout.utils.widget.FavoritesManager;
 
 /**
@@ -19,14 +22,14 @@ import com.travistorres.moviescout.utils.widget.FavoritesManager;
  * @version April 10, 2017
  */
 
-public class FavoriteMovieLoaderTask extends AsyncTaskLoader<Movie[]> {
+public class FavoriteMovieLoaderTask extends ScheduledTaskLoader<MoviePage> {
     /**
      * Configures the context of the loader.
      *
      * @param context
      */
     public FavoriteMovieLoaderTask(Context context) {
-        super(context);
+        super(context, TaskPool.DISK, TaskPriority.VISIBLE);
     }
 
     /**
@@ -43,12 +46,23 @@ public class FavoriteMovieLoaderTask extends AsyncTaskLoader<Movie[]> {
     /**
      * Acquires all of the users favorites.
      *
-     * @return array of all of the users favorites or null if none have been set.
+     * @return a single page containing all of the users favorites or null if none have been set.
      */
     @Override
-    public Movie[] loadInBackground() {
+    public MoviePage loadInBackground() {
         Context context = getContext();
         FavoritesManager favoritesManager = new FavoritesManager(context);
-        return favoritesManager.getFavorites();
+        Movie[] favorites;
+        try {
+            favorites = favoritesManager.getFavorites();
+        } finally {
+            favoritesManager.close();
+        }
+        if (favorites == null) {
+            return null;
+        }
+
+        //  all favorites are listed on a single page
+        return new MoviePage(favorites, 1, 1, favorites.length);
     }
 }
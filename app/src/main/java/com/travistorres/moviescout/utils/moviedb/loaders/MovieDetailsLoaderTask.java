@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.moviedb.loaders;
+
+import android.os.Bundle;
+import android.support.v7.app.AppCompatActivity;
+
+import com.travistorres.moviescout.R;
+import com.travistorres.moviescout.utils.moviedb.builders.MovieDetailsBuilder;
+import com.travistorres.moviescout.utils.moviedb.interfaces.MovieDbNetworkingErrorHandler;
+import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.moviedb.models.MovieDetails;
+import com.travistorres.moviescout.utils.tasks.ScheduledTaskLoader;
+import com.travistorres.moviescout.utils.tasks.TaskPool;
+import com.travistorres.moviescout.utils.tasks.TaskPriority;
+
+/**
+ * MovieDetailsLoaderTask
+ *
+ * Acquires the details, trailers and reviews of a specific movie with a single network request.
+ * The details are delivered as the only element of an array, or null when they could not be
+ * acquired.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class MovieDetailsLoaderTask extends ScheduledTaskLoader<MovieDetails[]> {
+    private AppCompatActivity parentActivity;
+    private Bundle selectedMovieBundle;
+    private MovieDbNetworkingErrorHandler errorHandler;
+    private String versionThreeApiKey;
+
+    /**
+     * Creates a new Loader.  All information for the activity that is running the loader and the
+     * tasks that should be completed on error should be passed here.
+     *
+     * @param activity
+     * @param movieBundle
+     * @param networkingErrorHandler
+     * @param apiKey
+     */
+    public MovieDetailsLoaderTask(AppCompatActivity activity, Bundle movieBundle, MovieDbNetworkingErrorHandler networkingErrorHandler, String apiKey) {
+        super(activity, TaskPool.NETWORK, TaskPriority.VISIBLE);
+
+        errorHandler = networkingErrorHandler;
+        parentActivity = activity;
+        selectedMovieBundle = movieBundle;
+        versionThreeApiKey = apiKey;
+    }
+
+    /**
+     * Specifies what to do before the networking task is triggered.
+     *
+     */
+    @Override
+    protected void onStartLoading() {
+        super.onStartLoading();
+
+        if (selectedMovieBundle == null) {
+            return;
+        }
+
+        errorHandler.beforeNetworkRequest();
+        forceLoad();
+    }
+
+    /**
+     * Acquires the details of the selected movie from the network resource.
+     *
+     * @return The details of the movie or null if they could not be acquired.
+     */
+    @Override
+    public MovieDetails[] loadInBackground() {
+        MovieDetails[] movieDetails = null;
+        String selectedMovieKey = parentActivity.getString(R.string.selected_movie_extra_key);
+
+        if (selectedMovieBundle.containsKey(selectedMovieKey)) {
+            Movie selectedMovie = selectedMovieBundle.getParcelable(selectedMovieKey);
+            MovieDetails details = MovieDetailsBuilder.createMovieDetails(getContext(), errorHandler, selectedMovie, versionThreeApiKey);
+            if (details != null) {
+                movieDetails = new MovieDetails[] {details};
+            }
+        }
+
+        return movieDetails;
+    }
+}
@@ -4,22 +4,18 @@
 
 package com.travistorres.moviescout.utils.moviedb.loaders;
 
-import android.content.Context;
 import android.os.Bundle;
-import android.support.v4.content.AsyncTaskLoader;
 import android.text.TextUtils;
 
 import com.travistorres.moviescout.utils.moviedb.builders.MovieBuilder;
 import com.travistorres.moviescout.utils.moviedb.MovieDbRequester;
 import com.travistorres.moviescout.utils.moviedb.interfaces.MovieDbNetworkingErrorHandler;
-import com.travistorres.moviescout.utils.moviedb.models.Movie;
-import com.travistorres.moviescout.utils.networking.NetworkManager;
-import com.travistorres.moviescout.utils.networking.exceptions.HttpConnectionTimeoutException;
-import com.travistorres.moviescout.utils.networking.exceptions.HttpPageNotFoundException;
-import com.travistorres.moviescout.utils.networking.exceptions.HttpUnauthorizedException;
-import com.travistorres.moviescout.utils.networking.exceptions.NetworkingException;
-
-import java.io.IOException;
+import com.travistorres.moviescout.utils.moviedb.models.MoviePage;
+import com.travistorres.moviescout.utils.tasks.ScheduledTaskLoader;
+import com.travistorres.moviescout.utils.tasks.TaskPool;
+import com.travistorres.moviescout.utils.tasks.TaskPriority;
+
+import java.net.MalformedURLException;
 import java.net.URL;
 
 /**
@@ -32,7 +28,7 @@ import java.net.URL;
  * @version April 2, 2017
  */
 
-public class MovieListLoader extends AsyncTaskLoader<Movie[]> {
+public class MovieListLoader extends ScheduledTaskLoader<MoviePage> {
     private Bundle args;
     private MovieDbRequester requester;
     private MovieDbNetworkingErrorHandler errorHandler;
@@ -44,7 +40,7 @@ public class MovieListLoader extends AsyncTaskLoader<Movie[]> {
      * @param bundle
      */
     public MovieListLoader(MovieDbRequester movieRequester, Bundle bundle, MovieDbNetworkingErrorHandler networkErrorHandler) {
-        super(movieRequester.getContext());
+        super(movieRequester.getContext(), TaskPool.NETWORK, TaskPriority.PREFETCH);
 
         requester = movieRequester;
         args = bundle;
@@ -74,12 +70,12 @@ public class MovieListLoader extends AsyncTaskLoader<Movie[]> {
     /**
      * Issues a network request for all movie information from MovieDbApi.com.
      *
-     * @return List of movies obtained from the server.
+     * @return The page of movies obtained from the server.
      */
     @Override
-    public Movie[] loadInBackground() {
+    public MoviePage loadInBackground() {
         String urlString = null;
-        Movie[] movieList = null;
+        MoviePage moviePage = null;
 
         //  acquire the string value of the URL if one has been set
         if (args.containsKey(requester.MOVIE_REQUEST_URL_EXTRA)) {
@@ -94,28 +90,11 @@ public class MovieListLoader extends AsyncTaskLoader<Movie[]> {
         //  attempt to acquire the resource
         try {
             URL url = new URL(urlString);
-            String json = NetworkManager.request(url);
-            if (json != null) {
-                Context context = getContext();
-                movieList = MovieBuilder.createMovies(context, json);
-                requester.setTotalMovies(MovieBuilder.totalResults(context, json));
-                requester.setTotalPages(MovieBuilder.totalPages(context, json));
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        } catch (HttpConnectionTimeoutException e) {
-            e.printStackTrace();
-        } catch (HttpPageNotFoundException e) {
-            e.printStackTrace();
-            errorHandler.onPageNotFound();
-        } catch (HttpUnauthorizedException e) {
-            e.printStackTrace();
-            errorHandler.onUnauthorizedAccess();
-        } catch (NetworkingException e) {
+            moviePage = MovieBuilder.createMoviePage(getContext(), errorHandler, url);
+        } catch (MalformedURLException e) {
             e.printStackTrace();
-            errorHandler.onGeneralNetworkingError();
         }
 
-        return movieList;
+        return moviePage;
     }
 }
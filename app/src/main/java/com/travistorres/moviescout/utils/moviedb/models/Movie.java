@@ -5,14 +5,20 @@
 package com.travistorres.moviescout.utils.moviedb.models;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.os.Parcel;
 import android.os.Parcelable;
+import android.text.TextUtils;
 import android.widget.ImageView;
 
 import com.squareup.picasso.Picasso;
+import com.squareup.picasso.RequestCreator;
+import com.travistorres.moviescout.R;
+import com.travistorres.moviescout.utils.images.ImageSizeSelector;
+import com.travistorres.moviescout.utils.images.OfflineImageStore;
 import com.travistorres.moviescout.utils.networking.UrlManager;
 
-import java.net.URL;
+import java.io.File;
 
 /**
  * Movie
@@ -77,16 +83,36 @@ public class Movie implements Parcelable {
     };
 
     /**
-     * Stores the backdrop image into a given ImageView.
+     * Stores the backdrop image into a given ImageView.  The smallest backdrop which covers the
+     * width of the view is requested.
      *
      * @param context
      * @param imageView
      */
     public void loadBackdropIntoImageView(Context context, ImageView imageView) {
-        UrlManager urlManager = new UrlManager(context);
-        URL backdropUrl = urlManager.getMovieBackdropUrl(backdropPath);
+        if (backdropPath == null) {
+            clearImageView(context, imageView);
+            return;
+        }
+
+        int screenWidth = ImageSizeSelector.getScreenWidth(context);
+        int targetWidth = ImageSizeSelector.getTargetWidth(imageView, screenWidth);
+        createBackdropRequest(context, targetWidth).into(imageView);
+    }
+
+    /**
+     * Downloads the backdrop into the image cache ahead of it being displayed across the width of
+     * the screen.
+     *
+     * @param context
+     */
+    public void prefetchBackdrop(Context context) {
+        if (backdropPath == null) {
+            return;
+        }
 
-        loadImageFromUrlIntoImageView(context, backdropUrl, imageView);
+        int screenWidth = ImageSizeSelector.getScreenWidth(context);
+        createBackdropRequest(context, screenWidth).priority(Picasso.Priority.LOW).fetch();
     }
 
     /**
@@ -96,22 +122,131 @@ public class Movie implements Parcelable {
      * @param imageView
      */
     public void loadPosterIntoImageView(Context context, ImageView imageView) {
-        UrlManager urlManager = new UrlManager(context);
-        URL posterUrl = urlManager.getMoviePosterUrl(posterPath);
+        if (posterPath == null) {
+            clearImageView(context, imageView);
+            return;
+        }
 
-        loadImageFromUrlIntoImageView(context, posterUrl, imageView);
+        String posterSize = context.getString(R.string.tmdb_image_size_default);
+        loadPoster(context, posterSize).into(imageView);
     }
 
     /**
-     * Displays the image that is provided from a URL resource into a given ImageView.
+     * Stores the poster for the movie into a given ImageView resource as a thumbnail which is
+     * decoded at the width the view will be displayed at.
      *
      * @param context
-     * @param imageUrl
      * @param imageView
+     * @param targetWidth Width in pixels the poster will be displayed at
      */
-    private void loadImageFromUrlIntoImageView(Context context, URL imageUrl, ImageView imageView) {
-        String imageUrlString = imageUrl.toString();
-        Picasso.with(context).load(imageUrlString).into(imageView);
+    public void loadPosterIntoImageView(Context context, ImageView imageView, int targetWidth) {
+        if (posterPath == null) {
+            clearImageView(context, imageView);
+            return;
+        }
+
+        createThumbnailRequest(context, targetWidth).into(imageView);
+    }
+
+    /**
+     * Downloads the poster into the image cache ahead of it being displayed at a given width.
+     * Prefetches are requested at a low priority so that they never delay images which are on
+     * screen.
+     *
+     * @param context
+     * @param targetWidth Width in pixels the poster will be displayed at
+     */
+    public void prefetchPoster(Context context, int targetWidth) {
+        if (posterPath == null) {
+            return;
+        }
+
+        createThumbnailRequest(context, targetWidth).priority(Picasso.Priority.LOW).fetch();
+    }
+
+    /**
+     * Prepares a request for the smallest poster which covers a given width.  Thumbnails are
+     * opaque so they are decoded without an alpha channel, which halves the memory they occupy.
+     *
+     * @param context
+     * @param targetWidth Width in pixels the poster will be displayed at
+     *
+     * @return The prepared request
+     */
+    private RequestCreator createThumbnailRequest(Context context, int targetWidth) {
+        String posterSize = ImageSizeSelector.getInstance(context).getPosterSize(targetWidth);
+        RequestCreator request = loadPoster(context, posterSize).config(Bitmap.Config.RGB_565);
+
+        return scaleDownToWidth(request, targetWidth);
+    }
+
+    /**
+     * Prepares a request for the smallest backdrop which covers a given width.
+     *
+     * @param context
+     * @param targetWidth Width in pixels the backdrop will be displayed at
+     *
+     * @return The prepared request
+     */
+    private RequestCreator createBackdropRequest(Context context, int targetWidth) {
+        RequestCreator request;
+        File backdropFile = OfflineImageStore.getInstance(context).getBackdropFile(id);
+        if (backdropFile != null) {
+            request = Picasso.with(context).load(backdropFile);
+        } else {
+            String backdropSize = ImageSizeSelector.getInstance(context).getBackdropSize(targetWidth);
+            String backdropUrl = UrlManager.getInstance(context).getMoviePosterUrlString(backdropPath, backdropSize);
+            request = Picasso.with(context).load(backdropUrl);
+        }
+
+        return scaleDownToWidth(request, targetWidth);
+    }
+
+    /**
+     * Prepares a request for the poster.  The poster of a favorite movie is read from the offline
+     * image store so that it can be displayed without a network connection.
+     *
+     * @param context
+     * @param posterSize Size of the poster to download when it has not been stored
+     *
+     * @return The prepared request
+     */
+    private RequestCreator loadPoster(Context context, String posterSize) {
+        File posterFile = OfflineImageStore.getInstance(context).getPosterFile(id);
+        if (posterFile != null) {
+            return Picasso.with(context).load(posterFile);
+        }
+
+        String posterUrl = UrlManager.getInstance(context).getMoviePosterUrlString(posterPath, posterSize);
+
+        return Picasso.with(context).load(posterUrl);
+    }
+
+    /**
+     * Decodes an image no wider than the view it is displayed in.  The loads and prefetches of an
+     * image must be scaled identically for the prefetched image to be found in the memory cache.
+     *
+     * @param request
+     * @param targetWidth Width in pixels the image will be displayed at
+     *
+     * @return The request
+     */
+    private static RequestCreator scaleDownToWidth(RequestCreator request, int targetWidth) {
+        if (targetWidth > 0) {
+            request.resize(targetWidth, 0).onlyScaleDown();
+        }
+
+        return request;
+    }
+
+    /**
+     * Removes any image from the ImageView for movies which do not provide the image.
+     *
+     * @param context
+     * @param imageView
+     */
+    private void clearImageView(Context context, ImageView imageView) {
+        Picasso.with(context).load((String) null).into(imageView);
     }
 
     /**
@@ -208,22 +343,32 @@ public class Movie implements Parcelable {
         if (obj instanceof Movie) {
             Movie other = (Movie) obj;
 
-
-            return other.backdropPath.equals(backdropPath) &&
+            return TextUtils.equals(other.backdropPath, backdropPath) &&
                     other.hasVideo == hasVideo &&
                     other.id == id &&
                     other.isAdultFilm == isAdultFilm &&
-                    other.originalLanguage.equals(originalLanguage) &&
-                    other.originalTitle.equals(originalTitle) &&
-                    other.overview.equals(overview) &&
+                    TextUtils.equals(other.originalLanguage, originalLanguage) &&
+                    TextUtils.equals(other.originalTitle, originalTitle) &&
+                    TextUtils.equals(other.overview, overview) &&
                     other.popularity == popularity &&
-                    other.posterPath.equals(posterPath) &&
-                    other.releaseDate.equals(releaseDate) &&
-                    other.title.equals(title) &&
+                    TextUtils.equals(other.posterPath, posterPath) &&
+                    TextUtils.equals(other.releaseDate, releaseDate) &&
+                    TextUtils.equals(other.title, title) &&
                     other.voteAverage == voteAverage &&
                     other.voteCount == voteCount;
         }
 
         return super.equals(obj);
     }
+
+    /**
+     * Generates a hash code that is consistent with equals.  Since the movie id identifies the
+     * movie on the server it is used directly.
+     *
+     * @return the movie id
+     */
+    @Override
+    public int hashCode() {
+        return id;
+    }
 }
@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.moviedb.models;
+
+/**
+ * MovieDetails
+ *
+ * The latest information of a movie together with its trailers and reviews, all of which are
+ * acquired from a single response.  Instances are immutable so that they can be handed from a
+ * background loader to the UI thread without any further synchronization.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public final class MovieDetails {
+    public final Movie movie;
+    public final Trailer[] trailers;
+    public final Review[] reviews;
+
+    /**
+     * Constructs the details of a movie.
+     *
+     * @param movie The latest information of the movie
+     * @param trailers The trailers of the movie or null if there are none
+     * @param reviews The reviews of the movie or null if there are none
+     */
+    public MovieDetails(Movie movie, Trailer[] trailers, Review[] reviews) {
+        this.movie = movie;
+        this.trailers = trailers;
+        this.reviews = reviews;
+    }
+}
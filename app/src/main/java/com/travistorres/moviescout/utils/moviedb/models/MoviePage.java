@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.moviedb.models;
+
+/**
+ * MoviePage
+ *
+ * A single page of movies along with the paging information that was provided alongside it.
+ * Instances are immutable so that they can be handed from a background loader to the UI thread
+ * without any further synchronization.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public final class MoviePage {
+    public final Movie[] movies;
+    public final int page;
+    public final int totalPages;
+    public final int totalResults;
+    public final long fetchedAt;
+
+    /**
+     * Constructs a page of movies which was acquired at the current time.
+     *
+     * @param movies The movies listed on the page
+     * @param page The index of the page starting at 1
+     * @param totalPages Number of pages available
+     * @param totalResults Number of movies available
+     */
+    public MoviePage(Movie[] movies, int page, int totalPages, int totalResults) {
+        this(movies, page, totalPages, totalResults, System.currentTimeMillis());
+    }
+
+    /**
+     * Constructs a page of movies.
+     *
+     * @param movies The movies listed on the page
+     * @param page The index of the page starting at 1
+     * @param totalPages Number of pages available
+     * @param totalResults Number of movies available
+     * @param fetchedAt Time in milliseconds when the page was acquired
+     */
+    public MoviePage(Movie[] movies, int page, int totalPages, int totalResults, long fetchedAt) {
+        this.movies = movies;
+        this.page = page;
+        this.totalPages = totalPages;
+        this.totalResults = totalResults;
+        this.fetchedAt = fetchedAt;
+    }
+}
@@ -110,7 +110,7 @@ public class Trailer implements Parcelable{
      * @return URL where the trailer can be watched.
      */
     public URL getVideoUrl(Context context) {
-        UrlManager urlManager = new UrlManager(context);
+        UrlManager urlManager = UrlManager.getInstance(context);
         URL videoUrl = urlManager.getVideoTrailerUrl(this);
 
         return videoUrl;
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ByteCountingInputStream
+ *
+ * Adds the number of bytes read from a stream to a shared counter.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+final class ByteCountingInputStream extends FilterInputStream {
+    private final AtomicLong byteCount;
+
+    /**
+     * Wraps a stream.
+     *
+     * @param stream The stream to count
+     * @param counter Receives the number of bytes read
+     */
+    ByteCountingInputStream(InputStream stream, AtomicLong counter) {
+        super(stream);
+
+        byteCount = counter;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value != -1) {
+            byteCount.incrementAndGet();
+        }
+
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int count = super.read(buffer, offset, length);
+        if (count > 0) {
+            byteCount.addAndGet(count);
+        }
+
+        return count;
+    }
+
+    @Override
+    public long skip(long byteCountToSkip) throws IOException {
+        long skipped = super.skip(byteCountToSkip);
+        if (skipped > 0) {
+            byteCount.addAndGet(skipped);
+        }
+
+        return skipped;
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HostConnectionStatistics
+ *
+ * Counters describing the traffic exchanged with a single host.  A connection which is reused
+ * from the keep-alive pool connects almost instantly so the average connect time shows how often
+ * a new TCP and TLS handshake had to be made.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public final class HostConnectionStatistics {
+    final AtomicLong requestCount = new AtomicLong();
+    final AtomicLong failedRequestCount = new AtomicLong();
+    final AtomicLong compressedResponseCount = new AtomicLong();
+    final AtomicLong connectTime = new AtomicLong();
+    final AtomicLong bytesReceived = new AtomicLong();
+    final AtomicLong bytesDecoded = new AtomicLong();
+
+    public final String host;
+
+    /**
+     * Creates empty statistics for a host.
+     *
+     * @param host
+     */
+    HostConnectionStatistics(String host) {
+        this.host = host;
+    }
+
+    /**
+     * Number of connections which have been opened to the host.
+     *
+     * @return request count
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Number of requests which failed before the response could be read.
+     *
+     * @return failed request count
+     */
+    public long getFailedRequestCount() {
+        return failedRequestCount.get();
+    }
+
+    /**
+     * Number of response bodies which the host sent compressed.
+     *
+     * @return compressed response count
+     */
+    public long getCompressedResponseCount() {
+        return compressedResponseCount.get();
+    }
+
+    /**
+     * Average time taken to establish a connection.
+     *
+     * @return average connect time in milliseconds
+     */
+    public long getAverageConnectTime() {
+        long requests = requestCount.get();
+
+        return requests > 0 ? connectTime.get() / requests : 0;
+    }
+
+    /**
+     * Number of response body bytes read from the network.
+     *
+     * @return bytes as sent by the host
+     */
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    /**
+     * Number of response body bytes after they were decompressed.
+     *
+     * @return decoded bytes
+     */
+    public long getBytesDecoded() {
+        return bytesDecoded.get();
+    }
+}
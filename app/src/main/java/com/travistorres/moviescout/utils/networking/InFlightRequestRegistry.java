@@ -0,0 +1,222 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking;
+
+import com.travistorres.moviescout.utils.networking.exceptions.RequestRateExceededException;
+import com.travistorres.moviescout.utils.networking.resilience.TokenBucketRateLimiter;
+import com.travistorres.moviescout.utils.tasks.TaskPriority;
+import com.travistorres.moviescout.utils.tasks.TaskScheduler;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * InFlightRequestRegistry
+ *
+ * Keeps track of the requests which are currently being performed so that callers asking for the
+ * same resource at the same time share a single HTTP exchange and a single parsed result.  The
+ * first caller performs the request on its own thread while every other caller waits for it to
+ * finish.  A request is forgotten as soon as it completes so later callers always start a new one.
+ *
+ * A request runs at the highest priority of the callers waiting on it, so a visible request which
+ * joins a background one is not held to the background share of the rate limit.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+final class InFlightRequestRegistry {
+    private static final ThreadLocal<InFlightRequest> sCurrentRequest = new ThreadLocal<>();
+
+    private final ConcurrentHashMap<String, InFlightRequest> inFlightRequests;
+    private final AtomicLong coalescedRequestCount;
+
+    /**
+     * Creates an empty registry.
+     *
+     */
+    InFlightRequestRegistry() {
+        inFlightRequests = new ConcurrentHashMap<>();
+        coalescedRequestCount = new AtomicLong();
+    }
+
+    /**
+     * Retrieves the priority of the request being performed on the calling thread.  The priority
+     * may be raised while the request is running by callers which are waiting on it.
+     *
+     * @return priority of the request or null when not called while performing a request
+     */
+    static TokenBucketRateLimiter.PrioritySource getCurrentRequest() {
+        return sCurrentRequest.get();
+    }
+
+    /**
+     * Performs the request unless an identical request is already running, in which case its
+     * result is shared.  A caller which shares a request raises it to its own priority.  Should
+     * the shared request be rejected by the rate limiter or interrupted, which only says something
+     * about the caller that performed it, every waiting caller performs the request on its own.
+     *
+     * @param key Identifies the request, see getRequestKey
+     * @param request Performs the request
+     *
+     * @return The result of the request
+     *
+     * @throws Exception Whatever the request threw
+     */
+    @SuppressWarnings("unchecked")
+    <T> T execute(String key, final Callable<T> request) throws Exception {
+        TaskPriority priority = TaskScheduler.getCurrentPriority();
+        while (true) {
+            InFlightRequest task = new InFlightRequest(request, priority);
+            InFlightRequest inFlightTask = inFlightRequests.putIfAbsent(key, task);
+            if (inFlightTask == null) {
+                //  this caller is the first to ask so it performs the request itself
+                InFlightRequest outerRequest = sCurrentRequest.get();
+                sCurrentRequest.set(task);
+                try {
+                    task.run();
+                } finally {
+                    sCurrentRequest.set(outerRequest);
+                    inFlightRequests.remove(key, task);
+                }
+
+                return (T) getResult(key, task);
+            }
+
+            //  the request finished but has not been forgotten yet
+            if (inFlightTask.isDone()) {
+                inFlightRequests.remove(key, inFlightTask);
+                continue;
+            }
+
+            coalescedRequestCount.incrementAndGet();
+            inFlightTask.raisePriority(priority);
+            try {
+                return (T) getResult(key, inFlightTask);
+            } catch (RequestRateExceededException e) {
+                //  the owner could not wait as long as this caller may
+            } catch (InterruptedIOException e) {
+                if (e instanceof SocketTimeoutException || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                //  the owner was interrupted while this caller still wants the response
+            }
+        }
+    }
+
+    /**
+     * Waits for a request to finish.
+     *
+     * @param key
+     * @param task
+     *
+     * @return The result of the request
+     *
+     * @throws Exception Whatever the request threw
+     */
+    private static Object getResult(String key, InFlightRequest task) throws Exception {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(key);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    /**
+     * Number of requests which were answered by sharing the result of another request.
+     *
+     * @return coalesced request count
+     */
+    long getCoalescedRequestCount() {
+        return coalescedRequestCount.get();
+    }
+
+    /**
+     * Builds the key identifying a request.  The URL is normalized so that differences in case,
+     * default ports and the order of the query parameters still refer to the same request.  The
+     * parser is part of the key since the same response may be converted into different results.
+     *
+     * @param url
+     * @param parserType
+     *
+     * @return The request key
+     */
+    static String getRequestKey(URL url, Class<?> parserType) {
+        String protocol = url.getProtocol().toLowerCase(Locale.US);
+        StringBuilder key = new StringBuilder(protocol)
+                .append("://")
+                .append(url.getHost().toLowerCase(Locale.US));
+
+        int port = url.getPort();
+        if (port != -1 && port != url.getDefaultPort()) {
+            key.append(':').append(port);
+        }
+
+        String path = url.getPath();
+        key.append(path.isEmpty() ? "/" : path);
+
+        String query = url.getQuery();
+        if (query != null && !query.isEmpty()) {
+            String[] parameters = query.split("&");
+            Arrays.sort(parameters);
+
+            char separator = '?';
+            for (String parameter : parameters) {
+                key.append(separator).append(parameter);
+                separator = '&';
+            }
+        }
+
+        return key.append('#').append(parserType.getName()).toString();
+    }
+
+    /**
+     * InFlightRequest
+     *
+     * A request which is being performed along with the highest priority of the callers which are
+     * waiting on it.
+     *
+     */
+    private static final class InFlightRequest extends FutureTask<Object> implements TokenBucketRateLimiter.PrioritySource {
+        private volatile TaskPriority priority;
+
+        InFlightRequest(final Callable<?> request, TaskPriority initialPriority) {
+            super(new Callable<Object>() {
+                @Override
+                public Object call() throws Exception {
+                    return request.call();
+                }
+            });
+
+            priority = initialPriority;
+        }
+
+        @Override
+        public TaskPriority getPriority() {
+            return priority;
+        }
+
+        synchronized void raisePriority(TaskPriority callerPriority) {
+            if (callerPriority.compareTo(priority) < 0) {
+                priority = callerPriority;
+            }
+        }
+    }
+}
@@ -4,21 +4,62 @@
 
 package com.travistorres.moviescout.utils.networking;
 
+import android.content.Context;
+import android.os.SystemClock;
+
+import com.travistorres.moviescout.R;
+import com.travistorres.moviescout.utils.networking.cache.CacheWritingInputStream;
+import com.travistorres.moviescout.utils.networking.cache.CachedResponse;
+import com.travistorres.moviescout.utils.networking.cache.HttpResponseDiskCache;
+import com.travistorres.moviescout.utils.networking.exceptions.HostUnavailableException;
 import com.travistorres.moviescout.utils.networking.exceptions.HttpConnectionTimeoutException;
 import com.travistorres.moviescout.utils.networking.exceptions.HttpPageNotFoundException;
+import com.travistorres.moviescout.utils.networking.exceptions.HttpTooManyRequestsException;
 import com.travistorres.moviescout.utils.networking.exceptions.HttpUnauthorizedException;
 import com.travistorres.moviescout.utils.networking.exceptions.NetworkingException;
+import com.travistorres.moviescout.utils.networking.exceptions.RequestRateExceededException;
+import com.travistorres.moviescout.utils.networking.interfaces.ResponseParser;
+import com.travistorres.moviescout.utils.networking.resilience.HostResilience;
+import com.travistorres.moviescout.utils.networking.resilience.RetryPolicy;
+import com.travistorres.moviescout.utils.networking.resilience.TokenBucketRateLimiter;
+import com.travistorres.moviescout.utils.tasks.TaskScheduler;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 /**
  * NetworkManager
  *
- * Handles networking over HTTP protocol.  Will acquire all request in some given String format.
+ * Handles networking over HTTP protocol.  Will acquire all request in some given String format or
+ * parse them directly from the response stream.
+ *
+ * Once configured, responses are stored in an on-disk cache.  Fresh entries are served without
+ * touching the network and expired entries are revalidated with a conditional request so that an
+ * unchanged resource does not have to be downloaded again.
+ *
+ * Connections are kept alive between requests so that the TCP and TLS handshakes are only paid
+ * once per host, and responses are requested gzipped.  Traffic statistics are kept per host.
+ *
+ * Requests which fail for a temporary reason are attempted again after a randomized exponential
+ * delay.  Each host has a circuit breaker which fails requests immediately after repeated
+ * failures, and its timeouts follow the latency that has been observed from it.
+ *
+ * Requests to the Movie DB API are paced by a token bucket so that its rate limit is not
+ * exceeded, with requests the user is waiting on allowed ahead of prefetching and synchronization.
+ *
+ * Concurrent requests for the same resource are coalesced so that only one of them opens a
+ * connection and every caller receives the same parsed result.
  *
  * @author Travis Anthony Torres
  * @version February 12, 2017
@@ -28,26 +69,115 @@ public class NetworkManager {
     public final static int HTTP_READ_TIMEOUT = 3000;
     public final static int HTTP_CONNECT_TIMEOUT = 3000;
     public final static String HTTP_GET_METHOD = "GET";
+    public final static long HTTP_RESPONSE_CACHE_SIZE = 10 * 1024 * 1024;
+    public final static int HTTP_MAX_IDLE_CONNECTIONS = 8;
 
     private final static String GENERIC_FAILURE_MESSAGE = "Network Access Failed:  ";
+    private final static String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+    private final static String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private final static String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    private final static String GZIP_ENCODING = "gzip";
+    private final static String HTTP_KEEP_ALIVE_PROPERTY = "http.keepAlive";
+    private final static String HTTP_MAX_CONNECTIONS_PROPERTY = "http.maxConnections";
+    private final static int DISCARD_BUFFER_SIZE = 1024;
+    private final static String RETRY_AFTER_HEADER = "Retry-After";
+    private final static int HTTP_MAX_ATTEMPTS = 3;
+    private final static long HTTP_RETRY_BASE_DELAY = 500;
+    private final static long HTTP_RETRY_MAX_DELAY = 4000;
+    private final static long HTTP_MAX_RETRY_AFTER = 10000;
+    private final static int API_RATE_LIMIT_REQUESTS = 40;
+    private final static long API_RATE_LIMIT_PERIOD = 10000;
+
+    private final static InFlightRequestRegistry sInFlightRequests = new InFlightRequestRegistry();
+
+    private final static ConcurrentHashMap<String, HostConnectionStatistics> sHostStatistics =
+            new ConcurrentHashMap<>();
+
+    private final static ConcurrentHashMap<String, HostResilience> sHostResilience =
+            new ConcurrentHashMap<>();
+    private final static RetryPolicy sRetryPolicy =
+            new RetryPolicy(HTTP_MAX_ATTEMPTS, HTTP_RETRY_BASE_DELAY, HTTP_RETRY_MAX_DELAY);
+    private final static TokenBucketRateLimiter sApiRateLimiter =
+            new TokenBucketRateLimiter(API_RATE_LIMIT_REQUESTS, API_RATE_LIMIT_PERIOD);
+
+    private static HttpResponseDiskCache sResponseCache;
+    private static volatile String sRateLimitedHost;
+
+    /*
+     *  Reads an entire response stream into a String.
+     *
+     */
+    private final static ResponseParser<String> STRING_RESPONSE_PARSER = new ResponseParser<String>() {
+        @Override
+        public String parse(InputStream response) throws IOException {
+            //  Reads the response into an iterator
+            Scanner responseReader = new Scanner(response);
+            responseReader.useDelimiter("\\A");
+
+            boolean hasInput = responseReader.hasNext();
+            return hasInput ? responseReader.next() : null;
+        }
+    };
+
+    /**
+     * Prepares the shared networking resources.  Should be called once when the application
+     * process starts.
+     *
+     * @param context
+     */
+    public static synchronized void configure(Context context) {
+        //  must be set before the first connection is opened for the pool to pick them up
+        System.setProperty(HTTP_KEEP_ALIVE_PROPERTY, Boolean.TRUE.toString());
+        System.setProperty(HTTP_MAX_CONNECTIONS_PROPERTY, String.valueOf(HTTP_MAX_IDLE_CONNECTIONS));
+
+        sRateLimitedHost = context.getString(R.string.movie_db_api_uri_domain);
+
+        if (sResponseCache == null) {
+            Context applicationContext = context.getApplicationContext();
+            sResponseCache = new HttpResponseDiskCache(applicationContext, HTTP_RESPONSE_CACHE_SIZE);
+        }
+    }
 
     /**
      * Opens a READ-ONLY connection to the server and imposes restrictions on the time that the
      * request is allowed to take.
      *
      * @param url The Url of the resource.
+     * @param cachedResponse A previously stored response whose validators should be sent, or null
+     * @param statistics Statistics of the host being connected to
+     * @param timeout Time in milliseconds allowed for connecting and for each read
      *
      * @return The prepared connection
      *
      * @throws IOException When an issue occurs while connecting to the resource.
      */
-    private static HttpURLConnection acquireConnection(URL url)
+    private static HttpURLConnection acquireConnection(URL url, CachedResponse cachedResponse, HostConnectionStatistics statistics, int timeout)
             throws IOException {
         HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setReadTimeout(HTTP_READ_TIMEOUT);
-        connection.setConnectTimeout(HTTP_CONNECT_TIMEOUT);
+        connection.setReadTimeout(timeout);
+        connection.setConnectTimeout(timeout);
         connection.setRequestMethod(HTTP_GET_METHOD);
+
+        //  responses are cached by sResponseCache rather than the platform cache used for images
+        connection.setUseCaches(false);
+
+        //  decompression is handled by openResponseBody so that the transferred size is known
+        connection.setRequestProperty(ACCEPT_ENCODING_HEADER, GZIP_ENCODING);
+
+        //  ask the server to only send the body if it has changed
+        if (cachedResponse != null) {
+            if (cachedResponse.entityTag != null) {
+                connection.setRequestProperty(IF_NONE_MATCH_HEADER, cachedResponse.entityTag);
+            }
+            if (cachedResponse.lastModified != null) {
+                connection.setRequestProperty(IF_MODIFIED_SINCE_HEADER, cachedResponse.lastModified);
+            }
+        }
+
+        long startTime = SystemClock.elapsedRealtime();
         connection.connect();
+        statistics.connectTime.addAndGet(SystemClock.elapsedRealtime() - startTime);
+        statistics.requestCount.incrementAndGet();
 
         return connection;
     }
@@ -63,6 +193,7 @@ public class NetworkManager {
      * @throws HttpPageNotFoundException When a 404 error occurs
      * @throws HttpPageNotFoundException When the resource rejected the connection
      * @throws HttpConnectionTimeoutException When a timeout occurs
+     * @throws HttpTooManyRequestsException When the rate limit has been exceeded
      * @throws NetworkingException For some generic error which we don't particularly care about
      */
     private static void handleConnectionErrors(HttpURLConnection connection)
@@ -71,6 +202,12 @@ public class NetworkManager {
         //  check that the connection passed, otherwise throws the desired exception
         int responseCode = connection.getResponseCode();
         if (responseCode != HttpURLConnection.HTTP_OK) {
+            //  reading the error body allows the connection to be reused
+            InputStream errorStream = connection.getErrorStream();
+            if (errorStream != null) {
+                discardResponseBody(errorStream);
+            }
+
             URL url = connection.getURL();
             switch (responseCode) {
                 case HttpURLConnection.HTTP_NOT_FOUND:
@@ -79,6 +216,8 @@ public class NetworkManager {
                     throw new HttpUnauthorizedException(url);
                 case HttpURLConnection.HTTP_CLIENT_TIMEOUT:
                     throw new HttpConnectionTimeoutException(url);
+                case HttpTooManyRequestsException.HTTP_TOO_MANY_REQUESTS:
+                    throw new HttpTooManyRequestsException(url, getRetryAfter(connection));
                 default:
                     throw new NetworkingException(GENERIC_FAILURE_MESSAGE, url, responseCode);
             }
@@ -101,31 +240,430 @@ public class NetworkManager {
     public static String request(URL url)
             throws IOException, HttpPageNotFoundException, HttpUnauthorizedException,
             HttpConnectionTimeoutException, NetworkingException {
-        String responseString = null;
+        return request(url, STRING_RESPONSE_PARSER);
+    }
+
+    /**
+     * Acquires the response from the specified resource URL and converts it while it is being
+     * read from the connection.  The response body is never held in memory as a whole.
+     *
+     * @param url The resource to receive the request.
+     * @param parser Converts the response stream into the desired object.
+     *
+     * @return The parsed response or null if the request failed.
+     *
+     * @throws IOException When an issue occurs reading the response code
+     * @throws HttpPageNotFoundException When a 404 error occurs
+     * @throws HttpPageNotFoundException When the resource rejected the connection
+     * @throws HttpConnectionTimeoutException When a timeout occurs
+     * @throws NetworkingException For some generic error which we don't particularly care about
+     */
+    public static <T> T request(final URL url, final ResponseParser<T> parser)
+            throws IOException, HttpPageNotFoundException, HttpUnauthorizedException,
+            HttpConnectionTimeoutException, NetworkingException {
+        //  identical requests which are already running share their exchange and result
+        String requestKey = InFlightRequestRegistry.getRequestKey(url, parser.getClass());
+        try {
+            return sInFlightRequests.execute(requestKey, new Callable<T>() {
+                @Override
+                public T call() throws Exception {
+                    return performRequestWithRetries(url, parser);
+                }
+            });
+        } catch (IOException | NetworkingException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Number of requests which did not need a connection of their own since an identical request
+     * was already being performed.
+     *
+     * @return coalesced request count
+     */
+    public static long getCoalescedRequestCount() {
+        return sInFlightRequests.getCoalescedRequestCount();
+    }
+
+    /**
+     * Performs the request and attempts it again when it fails for a reason which is likely to be
+     * temporary, such as a dropped connection, a server error or an exceeded rate limit.
+     *
+     * @param url The resource to receive the request.
+     * @param parser Converts the response stream into the desired object.
+     *
+     * @return The parsed response or null if every attempt failed to connect.
+     *
+     * @throws IOException When the retry was interrupted
+     * @throws HttpPageNotFoundException When a 404 error occurs
+     * @throws HttpPageNotFoundException When the resource rejected the connection
+     * @throws HttpConnectionTimeoutException When a timeout occurs
+     * @throws HostUnavailableException When requests to the host are suspended
+     * @throws NetworkingException For some generic error which we don't particularly care about
+     */
+    private static <T> T performRequestWithRetries(URL url, ResponseParser<T> parser)
+            throws IOException, HttpPageNotFoundException, HttpUnauthorizedException,
+            HttpConnectionTimeoutException, NetworkingException {
+        HostResilience resilience = getResilience(url.getHost());
+        for (int attempt = 1; ; ++attempt) {
+            long retryDelay;
+            try {
+                return performRequest(url, parser, resilience, attempt);
+            } catch (HostUnavailableException e) {
+                //  waiting would not help since the circuit stays open for longer than any delay
+                throw e;
+            } catch (HttpTooManyRequestsException e) {
+                //  honor the wait requested by the server unless it is too long to be worth it
+                long retryAfter = e.getRetryAfter();
+                if (!sRetryPolicy.canRetry(attempt) || retryAfter > HTTP_MAX_RETRY_AFTER) {
+                    throw e;
+                }
+                retryDelay = Math.max(retryAfter, sRetryPolicy.getBackoffDelay(attempt));
+            } catch (NetworkingException e) {
+                if (!RetryPolicy.isRetryable(e.getResponseCode()) || !sRetryPolicy.canRetry(attempt)) {
+                    throw e;
+                }
+                retryDelay = sRetryPolicy.getBackoffDelay(attempt);
+            } catch (IOException e) {
+                if (!sRetryPolicy.canRetry(attempt)) {
+                    e.printStackTrace();
+                    return null;
+                }
+                retryDelay = sRetryPolicy.getBackoffDelay(attempt);
+            }
+
+            try {
+                Thread.sleep(retryDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(url.toString());
+            }
+        }
+    }
+
+    /**
+     * Performs a single attempt of the request, serving it from the cache when possible.  When the
+     * host is failing a stale cached response is preferred over not responding at all.
+     *
+     * @param url The resource to receive the request.
+     * @param parser Converts the response stream into the desired object.
+     * @param resilience Circuit breaker and latency history of the host
+     * @param attempt The number of the attempt, starting at 1
+     *
+     * @return The parsed response.
+     *
+     * @throws IOException When the connection failed or the response could not be read
+     * @throws HttpPageNotFoundException When a 404 error occurs
+     * @throws HttpPageNotFoundException When the resource rejected the connection
+     * @throws HttpConnectionTimeoutException When a timeout occurs
+     * @throws HttpTooManyRequestsException When the rate limit has been exceeded
+     * @throws HostUnavailableException When requests to the host are suspended
+     * @throws RequestRateExceededException When the rate limit did not allow the request in time
+     * @throws NetworkingException For some generic error which we don't particularly care about
+     */
+    private static <T> T performRequest(URL url, ResponseParser<T> parser, HostResilience resilience, int attempt)
+            throws IOException, HttpPageNotFoundException, HttpUnauthorizedException,
+            HttpConnectionTimeoutException, NetworkingException {
+        T response;
         HttpURLConnection connection = null;
 
+        //  serve fresh responses without contacting the server
+        CachedResponse cachedResponse = getCachedResponse(url);
+        if (cachedResponse != null && cachedResponse.isFresh()) {
+            try {
+                return parseResponse(cachedResponse.openBody(), parser);
+            } catch (IOException e) {
+                //  the entry was evicted while being read so fall back to the network
+                e.printStackTrace();
+                cachedResponse = null;
+            }
+        }
+
+        //  wait until the server will accept another request, before a circuit trial is taken
+        if (url.getHost().equalsIgnoreCase(sRateLimitedHost) && !acquireRateLimitToken(url)) {
+            if (cachedResponse != null) {
+                return parseResponse(cachedResponse.openBody(), parser);
+            }
+            throw new RequestRateExceededException(url);
+        }
+
+        //  fail fast while the host is failing
+        if (!resilience.circuitBreaker.allowRequest()) {
+            if (cachedResponse != null) {
+                return parseResponse(cachedResponse.openBody(), parser);
+            }
+            throw new HostUnavailableException(url);
+        }
+
+        HostConnectionStatistics statistics = getStatistics(url.getHost());
+        long startTime = SystemClock.elapsedRealtime();
+        boolean isOutcomeRecorded = false;
         try {
-            //  Safely acquire connection and handle HTTP responses accordingly
-            connection = acquireConnection(url);
-            handleConnectionErrors(connection);
+            //  Safely acquire connection and only send validators when a body is stored
+            CachedResponse validators = (cachedResponse != null && cachedResponse.hasValidators()) ?
+                    cachedResponse :
+                    null;
+            int timeout = resilience.latencyTracker.getTimeout() * attempt;
+            connection = acquireConnection(url, validators, statistics, timeout);
 
-            //  Reads the response into an iterator
-            InputStream response = connection.getInputStream();
-            Scanner responseReader = new Scanner(response);
-            responseReader.useDelimiter("\\A");
+            //  the host responded so its health and latency are known
+            int responseCode = connection.getResponseCode();
+            resilience.latencyTracker.record(SystemClock.elapsedRealtime() - startTime);
+            if (RetryPolicy.isRetryable(responseCode)) {
+                resilience.circuitBreaker.recordFailure();
+            } else {
+                resilience.circuitBreaker.recordSuccess();
+            }
+            isOutcomeRecorded = true;
 
-            //  Acquires the response from the server
-            boolean hasInput = responseReader.hasNext();
-            responseString = hasInput ? responseReader.next() : null;
+            //  the stored body is still current so there is nothing to download
+            if (validators != null && responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                discardResponseBody(connection.getInputStream());
+                cachedResponse = sResponseCache.revalidate(url, validators, connection);
+                return parseResponse(cachedResponse.openBody(), parser);
+            }
+
+            handleConnectionErrors(connection);
+
+            //  parses the response while it is being copied into the cache
+            InputStream responseStream = openResponseBody(connection, statistics);
+            HttpResponseDiskCache.Editor editor = (sResponseCache != null) ?
+                    sResponseCache.edit(url, connection) :
+                    null;
+            if (editor != null) {
+                CacheWritingInputStream cachingStream = new CacheWritingInputStream(responseStream, editor);
+                try {
+                    response = parser.parse(cachingStream);
+                    cachingStream.drain();
+                } finally {
+                    cachingStream.close();
+                }
+            } else {
+                try {
+                    response = parser.parse(responseStream);
+                } finally {
+                    discardResponseBody(responseStream);
+                }
+            }
+        } catch (SocketTimeoutException e) {
+            resilience.latencyTracker.record(SystemClock.elapsedRealtime() - startTime);
+            throw releaseFailedConnection(connection, statistics, e);
         } catch (IOException e) {
-            e.printStackTrace();
+            throw releaseFailedConnection(connection, statistics, e);
         } finally {
-            //  release the connection if defined
-            if (connection != null) {
-                connection.disconnect();
+            //  every request let through must report, otherwise a half open circuit stays stuck
+            if (!isOutcomeRecorded) {
+                resilience.circuitBreaker.recordFailure();
             }
         }
 
-        return responseString;
+        return response;
+    }
+
+    /**
+     * Takes a token from the rate limiter of the API host using the priority of the request, which
+     * is raised while waiting if a more urgent caller shares the request.
+     *
+     * @param url The url being requested
+     *
+     * @return true if the request may be sent and false if it was rejected
+     *
+     * @throws InterruptedIOException When the thread was interrupted while waiting
+     */
+    private static boolean acquireRateLimitToken(URL url) throws InterruptedIOException {
+        try {
+            TokenBucketRateLimiter.PrioritySource request = InFlightRequestRegistry.getCurrentRequest();
+
+            return (request != null) ?
+                    sApiRateLimiter.acquire(request) :
+                    sApiRateLimiter.acquire(TaskScheduler.getCurrentPriority());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(url.toString());
+        }
+    }
+
+    /**
+     * Retrieves the rate limiter which paces requests to the Movie DB API.
+     *
+     * @return rate limiter of the API host
+     */
+    public static TokenBucketRateLimiter getApiRateLimiter() {
+        return sApiRateLimiter;
+    }
+
+    /**
+     * Discards a connection which failed so that it is not returned to the pool in an unknown
+     * state.
+     *
+     * @param connection The failed connection or null if it was never opened
+     * @param statistics Statistics of the host which was contacted
+     * @param failure The reason the connection failed
+     *
+     * @return The failure so that it can be thrown by the caller
+     */
+    private static IOException releaseFailedConnection(HttpURLConnection connection, HostConnectionStatistics statistics, IOException failure) {
+        statistics.failedRequestCount.incrementAndGet();
+        if (connection != null) {
+            connection.disconnect();
+        }
+
+        return failure;
+    }
+
+    /**
+     * Reads the time the server asked the client to wait before sending another request.  The
+     * value may be given either in seconds or as a date.
+     *
+     * @param connection
+     *
+     * @return delay in milliseconds or UNSPECIFIED_RETRY_AFTER
+     */
+    private static long getRetryAfter(HttpURLConnection connection) {
+        String retryAfter = connection.getHeaderField(RETRY_AFTER_HEADER);
+        if (retryAfter == null) {
+            return HttpTooManyRequestsException.UNSPECIFIED_RETRY_AFTER;
+        }
+
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            long retryAt = connection.getHeaderFieldDate(RETRY_AFTER_HEADER, 0);
+            if (retryAt == 0) {
+                return HttpTooManyRequestsException.UNSPECIFIED_RETRY_AFTER;
+            }
+
+            return Math.max(0, retryAt - System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Retrieves the circuit breaker and latency history of a host, creating them on first use.
+     *
+     * @param host
+     *
+     * @return resilience state of the host
+     */
+    private static HostResilience getResilience(String host) {
+        HostResilience resilience = sHostResilience.get(host);
+        if (resilience == null) {
+            HostResilience created = new HostResilience(host, HTTP_READ_TIMEOUT);
+            resilience = sHostResilience.putIfAbsent(host, created);
+            if (resilience == null) {
+                resilience = created;
+            }
+        }
+
+        return resilience;
+    }
+
+    /**
+     * Retrieves the traffic statistics for every host that has been contacted.
+     *
+     * @return statistics of each host
+     */
+    public static List<HostConnectionStatistics> getConnectionStatistics() {
+        return new ArrayList<>(sHostStatistics.values());
+    }
+
+    /**
+     * Retrieves the circuit breaker and latency history of every host that has been contacted.
+     *
+     * @return resilience state of each host
+     */
+    public static List<HostResilience> getResilienceStates() {
+        return new ArrayList<>(sHostResilience.values());
+    }
+
+    /**
+     * Retrieves the statistics for a host, creating them on first use.
+     *
+     * @param host
+     *
+     * @return statistics of the host
+     */
+    private static HostConnectionStatistics getStatistics(String host) {
+        HostConnectionStatistics statistics = sHostStatistics.get(host);
+        if (statistics == null) {
+            HostConnectionStatistics created = new HostConnectionStatistics(host);
+            statistics = sHostStatistics.putIfAbsent(host, created);
+            if (statistics == null) {
+                statistics = created;
+            }
+        }
+
+        return statistics;
+    }
+
+    /**
+     * Opens the body of a successful response, decompressing it when the server sent it gzipped.
+     *
+     * @param connection
+     * @param statistics Statistics of the host which sent the response
+     *
+     * @return The decoded response body
+     *
+     * @throws IOException When the body could not be opened
+     */
+    private static InputStream openResponseBody(HttpURLConnection connection, HostConnectionStatistics statistics)
+            throws IOException {
+        InputStream body = new ByteCountingInputStream(connection.getInputStream(), statistics.bytesReceived);
+        if (GZIP_ENCODING.equalsIgnoreCase(connection.getContentEncoding())) {
+            statistics.compressedResponseCount.incrementAndGet();
+            body = new GZIPInputStream(body);
+        }
+
+        return new ByteCountingInputStream(body, statistics.bytesDecoded);
+    }
+
+    /**
+     * Reads whatever remains of a response body and closes it.  A connection is only returned to
+     * the keep-alive pool once its response has been consumed entirely.
+     *
+     * @param body
+     *
+     * @throws IOException When the body could not be read
+     */
+    private static void discardResponseBody(InputStream body) throws IOException {
+        try {
+            byte[] buffer = new byte[DISCARD_BUFFER_SIZE];
+            while (body.read(buffer) != -1) {
+                //  nothing needs to be done with the remaining bytes
+            }
+        } finally {
+            body.close();
+        }
+    }
+
+    /**
+     * Looks up the stored response for a URL when the cache has been configured.
+     *
+     * @param url
+     *
+     * @return The cached response or null
+     */
+    private static CachedResponse getCachedResponse(URL url) {
+        return sResponseCache != null ? sResponseCache.get(url) : null;
+    }
+
+    /**
+     * Parses a response stream and closes it afterwards.
+     *
+     * @param response
+     * @param parser
+     *
+     * @return The parsed response
+     *
+     * @throws IOException When the response could not be read
+     */
+    private static <T> T parseResponse(InputStream response, ResponseParser<T> parser)
+            throws IOException {
+        try {
+            return parser.parse(response);
+        } finally {
+            response.close();
+        }
     }
 }
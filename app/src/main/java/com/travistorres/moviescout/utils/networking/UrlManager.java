@@ -14,60 +14,137 @@ import com.travistorres.moviescout.utils.moviedb.models.Trailer;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Locale;
 
 /**
  * UrlManager
  *
- * Provides URL's that are capable of safely retrieving content from the Movie DB API.  Using the
- * URI objects generated from this class will ensure that URL's are always well formed.
+ * Provides URL's that are capable of safely retrieving content from the Movie DB API.  Every
+ * scheme, host and path is read from the resources only once, when the shared instance is
+ * created, and kept as a URL prefix.  URL's are then formed by appending the encoded values of a
+ * request to the prefix, which keeps the poster URL's that are built while scrolling cheap.
  *
  * @author Travis Anthony Torres
  * @version v1.2.0 (March 26, 2017)
  */
 
 public class UrlManager {
+    private static final String SCHEME_SEPARATOR = "://";
+    private static final char PATH_SEPARATOR = '/';
+    private static final char QUERY_SEPARATOR = '?';
+    private static final char PARAMETER_SEPARATOR = '&';
+    private static final char VALUE_SEPARATOR = '=';
+
+    private static UrlManager sInstance;
+
     /*
-     *  The context is needed in order to read from the systems Configurations.
+     *  Prefixes of every URL, ending where the first value of a request is appended.
+     *
+     */
+    private final String movieRequestPrefix;
+    private final String popularMoviesPrefix;
+    private final String topRatedMoviesPrefix;
+    private final String imagePrefix;
+    private final String videoPrefix;
+
+    /*
+     *  Query fragments which are appended after a value of a request.
+     *
+     */
+    private final String apiKeyQuery;
+    private final String pageQuery;
+    private final String appendToResponseQuery;
+
+    private final String defaultPosterSize;
+    private final String backdropSize;
+
+    /**
+     * Retrieves the URL Manager shared by the entire application.
+     *
+     * @param context
+     *
+     * @return The URL Manager
+     */
+    public static synchronized UrlManager getInstance(Context context) {
+        if (sInstance == null) {
+            sInstance = new UrlManager(context.getApplicationContext());
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Reads every configuration of the URL's from the resources.
      *
+     * @param context
      */
-    private Context context;
+    private UrlManager(Context context) {
+        //  movie db api requests
+        String apiRoot = getRoot(context, R.string.movie_db_api_uri_scheme, R.string.movie_db_api_uri_domain) +
+                encodePath(context, R.string.movie_db_api_v3_identifier) +
+                encodePath(context, R.string.movie_db_api_movie_request_action);
+        apiKeyQuery = QUERY_SEPARATOR + encode(context, R.string.movie_db_api_key_query_key) + VALUE_SEPARATOR;
+        movieRequestPrefix = apiRoot + PATH_SEPARATOR;
+        popularMoviesPrefix = apiRoot + encodePath(context, R.string.movie_db_api_popular_movie_sort_action) + apiKeyQuery;
+        topRatedMoviesPrefix = apiRoot + encodePath(context, R.string.movie_db_api_top_rating_sort_action) + apiKeyQuery;
+        pageQuery = PARAMETER_SEPARATOR + encode(context, R.string.movie_db_api_page_query_key) + VALUE_SEPARATOR;
+
+        //  the trailers and reviews are embedded within the details response
+        String appendedResponses = context.getString(R.string.movie_db_api_trailer_action) +
+                context.getString(R.string.movie_db_api_append_to_response_separator) +
+                context.getString(R.string.movie_db_api_reviews_action);
+        appendToResponseQuery = PARAMETER_SEPARATOR + encode(context, R.string.movie_db_api_append_to_response_query_key) +
+                VALUE_SEPARATOR + Uri.encode(appendedResponses);
+
+        //  tmdb image requests
+        imagePrefix = getRoot(context, R.string.tmdb_uri_scheme, R.string.tmdb_uri_domain) +
+                encodePath(context, R.string.tmdb_uri_image_host_path_one) +
+                encodePath(context, R.string.tmdb_uri_image_host_path_two) +
+                PATH_SEPARATOR;
+        defaultPosterSize = context.getString(R.string.tmdb_image_size_default);
+        backdropSize = context.getString(R.string.tmdb_image_size_1280);
+
+        //  youtube requests
+        videoPrefix = getRoot(context, R.string.youtube_scheme, R.string.youtube_domain) +
+                encodePath(context, R.string.youtube_video_param) +
+                QUERY_SEPARATOR + encode(context, R.string.youtube_video_identifier_query) + VALUE_SEPARATOR;
+    }
 
     /**
-     * Configures a new URL Manager by providing a context which will provide system
-     * configurations.
+     * Retrieves the details of a movie along with its trailers and reviews in a single request.
      *
-     * @param mContext
+     * @param movie
+     * @param versionThreeApiKey
+     *
+     * @return URL used to request the details of a movie
      */
-    public UrlManager(Context mContext) {
-        context = mContext;
+    public URL getMovieDetailsUrl(Movie movie, String versionThreeApiKey) {
+        String url = new StringBuilder(movieRequestPrefix)
+                .append(movie.id)
+                .append(apiKeyQuery)
+                .append(Uri.encode(versionThreeApiKey))
+                .append(appendToResponseQuery)
+                .toString();
+
+        return getUrl(url);
     }
 
     /**
-     * Retrieves information regarding a movie from the server.
+     * Retrieves only the fields of a movie, without its trailers and reviews.
      *
      * @param movie
      * @param versionThreeApiKey
      *
-     * @return
+     * @return URL used to request a movie
      */
-    public URL getMovieInformation(Movie movie, String versionThreeApiKey) {
-        String httpScheme = context.getString(R.string.movie_db_api_uri_scheme);
-        String domainName = context.getString(R.string.movie_db_api_uri_domain);
-        String apiVersion = context.getString(R.string.movie_db_api_v3_identifier);
-        String movieRequest = context.getString(R.string.movie_db_api_movie_request_action);
-        String apiKeyQuery = context.getString(R.string.movie_db_api_key_query_key);
-        String movieId = Integer.toString(movie.id);
-
-        Uri uri = new Uri.Builder()
-                .scheme(httpScheme)
-                .authority(domainName)
-                .appendPath(apiVersion)
-                .appendPath(movieRequest)
-                .appendPath(movieId)
-                .appendQueryParameter(apiKeyQuery, versionThreeApiKey)
-                .build();
-
-        return getUrl(uri);
+    public URL getMovieUrl(Movie movie, String versionThreeApiKey) {
+        String url = new StringBuilder(movieRequestPrefix)
+                .append(movie.id)
+                .append(apiKeyQuery)
+                .append(Uri.encode(versionThreeApiKey))
+                .toString();
+
+        return getUrl(url);
     }
 
     /**
@@ -78,31 +155,18 @@ public class UrlManager {
      * @return URL The URL of the movie or NULL on failure
      */
     public URL getSortedMoveListUrl(MovieSortType sortType, int pageNumber, String versionThreeApiKey) {
-        //  read request parameters from the strings resource
-        String httpScheme = context.getString(R.string.movie_db_api_uri_scheme);
-        String domainName = context.getString(R.string.movie_db_api_uri_domain);
-        String apiVersion = context.getString(R.string.movie_db_api_v3_identifier);
-        String movieRequest = context.getString(R.string.movie_db_api_movie_request_action);
-        String apiKeyQuery = context.getString(R.string.movie_db_api_key_query_key);
-        String pageQuery = context.getString(R.string.movie_db_api_page_query_key);
-
         //  specify if movies should be sorted by popularity or by rating
-        String sortAction = (sortType == MovieSortType.MOST_POPULAR) ?
-                context.getString(R.string.movie_db_api_popular_movie_sort_action) :
-                context.getString(R.string.movie_db_api_top_rating_sort_action);
-
-        //  construct the movie db connection uri
-        Uri uri = new Uri.Builder()
-                .scheme(httpScheme)
-                .authority(domainName)
-                .appendPath(apiVersion)
-                .appendPath(movieRequest)
-                .appendPath(sortAction)
-                .appendQueryParameter(apiKeyQuery, versionThreeApiKey)
-                .appendQueryParameter(pageQuery, Integer.toString(pageNumber))
-                .build();
-
-        return getUrl(uri);
+        String prefix = (sortType == MovieSortType.MOST_POPULAR) ?
+                popularMoviesPrefix :
+                topRatedMoviesPrefix;
+
+        String url = new StringBuilder(prefix)
+                .append(Uri.encode(versionThreeApiKey))
+                .append(pageQuery)
+                .append(pageNumber)
+                .toString();
+
+        return getUrl(url);
     }
 
     /**
@@ -113,9 +177,7 @@ public class UrlManager {
      * @return A properly formatted URL for acquiring the movie poster.
      */
     public URL getMoviePosterUrl(String resourceName) {
-        String defaultImageSize = context.getString(R.string.tmdb_image_size_default);
-
-        return getMoviePosterUrl(resourceName, defaultImageSize);
+        return getMoviePosterUrl(resourceName, defaultPosterSize);
     }
 
     /**
@@ -126,88 +188,78 @@ public class UrlManager {
      * @return A properly formatted URL for acquiring the movies backdrop
      */
     public URL getMovieBackdropUrl(String resourceName) {
-        String defaultImageSize = context.getString(R.string.tmdb_image_size_1280);
-
-        return getMoviePosterUrl(resourceName, defaultImageSize);
+        return getMoviePosterUrl(resourceName, backdropSize);
     }
 
     /**
-     * Constructs a URL for obtaining a list of trailers for a movie.
+     * Retrieves the URL for acquiring a Movie Poster
      *
-     * @param movie
-     * @param versionThreeApiKey
+     * @param resourceName The resource name of the image on the server.
+     * @param posterSize The size that the poster should appear as.
      *
-     * @return URL to request trailers for a specific movie
+     * @return A properly formatted URL for acquiring the movie poster.
      */
-    public URL getTrailersUrl(Movie movie, String versionThreeApiKey) {
-        //  read request parameters from the strings resource
-        String httpScheme = context.getString(R.string.movie_db_api_uri_scheme);
-        String domainName = context.getString(R.string.movie_db_api_uri_domain);
-        String apiVersion = context.getString(R.string.movie_db_api_v3_identifier);
-        String movieRequest = context.getString(R.string.movie_db_api_movie_request_action);
-        String movieId = Integer.toString(movie.id);
-        String trailerRequest = context.getString(R.string.movie_db_api_trailer_action);
-        String apiKeyQuery = context.getString(R.string.movie_db_api_key_query_key);
-
-        //  construct the movie db connection uri
-        Uri uri = new Uri.Builder()
-                .scheme(httpScheme)
-                .authority(domainName)
-                .appendPath(apiVersion)
-                .appendPath(movieRequest)
-                .appendPath(movieId)
-                .appendPath(trailerRequest)
-                .appendQueryParameter(apiKeyQuery, versionThreeApiKey)
-                .build();
-
-        return getUrl(uri);
+    public URL getMoviePosterUrl(String resourceName, String posterSize) {
+        return getUrl(getMoviePosterUrlString(resourceName, posterSize));
     }
 
     /**
-     * Retrieves the URL for acquiring a Movie Poster
+     * Forms the address of a Movie Poster without parsing it into a URL, for callers such as
+     * image loaders which only need the address.
      *
      * @param resourceName The resource name of the image on the server.
      * @param posterSize The size that the poster should appear as.
      *
-     * @return A properly formatted URL for acquiring the movie poster.
+     * @return The address of the movie poster.
      */
-    public URL getMoviePosterUrl(String resourceName, String posterSize) {
-        //  request configurations for forming request on the tmdb database
-        String httpScheme = context.getString(R.string.tmdb_uri_scheme);
-        String domainName = context.getString(R.string.tmdb_uri_domain);
-        String pathOne = context.getString(R.string.tmdb_uri_image_host_path_one);
-        String pathTwo = context.getString(R.string.tmdb_uri_image_host_path_two);
-
-        //  construct the uri to make requests on
-        Uri uri = new Uri.Builder()
-                .scheme(httpScheme)
-                .authority(domainName)
-                .appendPath(pathOne)
-                .appendPath(pathTwo)
-                .appendPath(posterSize)
-                .appendPath(resourceName)
-                .build();
-
-        return getUrl(uri);
+    public String getMoviePosterUrlString(String resourceName, String posterSize) {
+        return new StringBuilder(imagePrefix.length() + posterSize.length() + resourceName.length() + 1)
+                .append(imagePrefix)
+                .append(Uri.encode(posterSize))
+                .append(PATH_SEPARATOR)
+                .append(Uri.encode(resourceName))
+                .toString();
+    }
+
+    /**
+     * Forms the address of the default size of a Movie Poster.
+     *
+     * @param resourceName The resource name of the image on the server.
+     *
+     * @return The address of the movie poster.
+     */
+    public String getMoviePosterUrlString(String resourceName) {
+        return getMoviePosterUrlString(resourceName, defaultPosterSize);
+    }
+
+    /**
+     * Forms the address of the Backdrop image for the Movie.
+     *
+     * @param resourceName
+     *
+     * @return The address of the movies backdrop.
+     */
+    public String getMovieBackdropUrlString(String resourceName) {
+        return getMoviePosterUrlString(resourceName, backdropSize);
     }
 
     /**
-     * Converts a URI object into a valid URL.
+     * Converts an address into a valid URL.
      *
-     * @param uri The URI to convert into a URL
+     * @param url The address to convert into a URL
      *
-     * @return URL packaged uri
+     * @return URL packaged address
      */
-    private static URL getUrl(Uri uri) {
-        URL url = null;
+    private static URL getUrl(String url) {
+        URL packagedUrl = null;
 
         try {
-            url = new URL(uri.toString());
+            packagedUrl = new URL(url);
         } catch (MalformedURLException e) {
             e.printStackTrace();
         }
 
-        return url;
+        return packagedUrl;
     }
 
     /**
@@ -218,51 +270,47 @@ public class UrlManager {
      * @return URL where the trailer can be viewed
      */
     public URL getVideoTrailerUrl(Trailer trailer) {
-        String httpScheme = context.getString(R.string.youtube_scheme);
-        String domainName = context.getString(R.string.youtube_domain);
-        String videoParam = context.getString(R.string.youtube_video_param);
-        String videoQuery = context.getString(R.string.youtube_video_identifier_query);
-        String videoIdentifier = trailer.key;
-
-        //  construct the uri to make requests on
-        Uri uri = new Uri.Builder()
-                .scheme(httpScheme)
-                .authority(domainName)
-                .appendPath(videoParam)
-                .appendQueryParameter(videoQuery, videoIdentifier)
-                .build();
-
-        return getUrl(uri);
+        String url = videoPrefix + Uri.encode(trailer.key);
+
+        return getUrl(url);
     }
 
     /**
-     * Retrieves the URL for acquiring the movies Reviews.
+     * Forms the scheme and authority of a host.
      *
-     * @param movie
-     * @param versionThreeApiKey
+     * @param context
+     * @param schemeResourceId
+     * @param domainResourceId
+     *
+     * @return address of the host without a trailing slash
+     */
+    private static String getRoot(Context context, int schemeResourceId, int domainResourceId) {
+        String scheme = context.getString(schemeResourceId).toLowerCase(Locale.US);
+
+        return scheme + SCHEME_SEPARATOR + context.getString(domainResourceId);
+    }
+
+    /**
+     * Reads a path segment from the resources and encodes it.
+     *
+     * @param context
+     * @param resourceId
+     *
+     * @return the segment preceded by a slash
+     */
+    private static String encodePath(Context context, int resourceId) {
+        return PATH_SEPARATOR + encode(context, resourceId);
+    }
+
+    /**
+     * Reads a value from the resources and encodes it.
+     *
+     * @param context
+     * @param resourceId
      *
-     * @return URL used to request reviews
+     * @return the encoded value
      */
-    public URL getMovieReviewsUrl(Movie movie, String versionThreeApiKey) {
-        //  read request parameters from the strings resource
-        String httpScheme = context.getString(R.string.movie_db_api_uri_scheme);
-        String domainName = context.getString(R.string.movie_db_api_uri_domain);
-        String apiVersion = context.getString(R.string.movie_db_api_v3_identifier);
-        String movieRequest = context.getString(R.string.movie_db_api_movie_request_action);
-        String movieId = Integer.toString(movie.id);
-        String reviewRequest = context.getString(R.string.movie_db_api_reviews_action);
-        String apiKeyQuery = context.getString(R.string.movie_db_api_key_query_key);
-
-        Uri uri = new Uri.Builder()
-                .scheme(httpScheme)
-                .authority(domainName)
-                .appendPath(apiVersion)
-                .appendPath(movieRequest)
-                .appendPath(movieId)
-                .appendPath(reviewRequest)
-                .appendQueryParameter(apiKeyQuery, versionThreeApiKey)
-                .build();
-
-        return getUrl(uri);
+    private static String encode(Context context, int resourceId) {
+        return Uri.encode(context.getString(resourceId));
     }
 }
@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking.cache;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * CacheWritingInputStream
+ *
+ * Copies every byte that is read from a response into a cache entry so that the response can be
+ * parsed and stored in a single pass.  The entry is only committed once the entire response has
+ * been read; otherwise it is discarded when the stream is closed.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class CacheWritingInputStream extends FilterInputStream {
+    private static final int DRAIN_BUFFER_SIZE = 1024;
+
+    private HttpResponseDiskCache.Editor editor;
+    private boolean reachedEnd;
+
+    /**
+     * Wraps a response stream.
+     *
+     * @param response The stream being read from the network
+     * @param cacheEditor The entry the response should be written into
+     */
+    public CacheWritingInputStream(InputStream response, HttpResponseDiskCache.Editor cacheEditor) {
+        super(response);
+
+        editor = cacheEditor;
+    }
+
+    /**
+     * Reads a single byte and copies it into the cache entry.
+     *
+     * @return The byte that was read or -1 at the end of the stream
+     *
+     * @throws IOException
+     */
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value == -1) {
+            reachedEnd = true;
+        } else if (editor != null) {
+            try {
+                editor.write(value);
+            } catch (IOException e) {
+                abort(e);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Reads a range of bytes and copies them into the cache entry.
+     *
+     * @param buffer
+     * @param offset
+     * @param length
+     *
+     * @return The number of bytes read or -1 at the end of the stream
+     *
+     * @throws IOException
+     */
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int count = super.read(buffer, offset, length);
+        if (count == -1) {
+            reachedEnd = true;
+        } else if (editor != null) {
+            try {
+                editor.write(buffer, offset, count);
+            } catch (IOException e) {
+                abort(e);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Reads whatever remains of the response so that trailing bytes the parser had no use for
+     * are still written into the cache entry.
+     *
+     * @throws IOException
+     */
+    public void drain() throws IOException {
+        byte[] buffer = new byte[DRAIN_BUFFER_SIZE];
+        while (read(buffer, 0, buffer.length) != -1) {
+            //  intentionally left blank
+        }
+    }
+
+    /**
+     * Commits the cache entry if the whole response was read and discards it otherwise.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (editor != null) {
+                if (reachedEnd) {
+                    editor.commit();
+                } else {
+                    editor.abort();
+                }
+                editor = null;
+            }
+        }
+    }
+
+    /**
+     * Stops copying into the cache after a write failure.  The response can still be read.
+     *
+     * @param e
+     */
+    private void abort(IOException e) {
+        e.printStackTrace();
+        editor.abort();
+        editor = null;
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking.cache;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * CachedResponse
+ *
+ * Describes a response body that has been stored on disk along with the validators that the server
+ * supplied for it.  The validators are replayed as a conditional request once the entry has
+ * expired so that an unchanged resource can be served without downloading it again.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class CachedResponse {
+    public final File body;
+    public final String entityTag;
+    public final String lastModified;
+    public final long expiresAt;
+
+    /**
+     * Constructs a new cache entry.
+     *
+     * @param bodyFile The file containing the stored response body
+     * @param eTag The value of the ETag header or null
+     * @param lastModifiedDate The value of the Last-Modified header or null
+     * @param expirationTime Time in milliseconds at which the entry must be revalidated
+     */
+    public CachedResponse(File bodyFile, String eTag, String lastModifiedDate, long expirationTime) {
+        body = bodyFile;
+        entityTag = eTag;
+        lastModified = lastModifiedDate;
+        expiresAt = expirationTime;
+    }
+
+    /**
+     * Determines if the entry can be served without contacting the server.
+     *
+     * @return `true` if the entry has not yet expired and `false` otherwise.
+     */
+    public boolean isFresh() {
+        return System.currentTimeMillis() < expiresAt;
+    }
+
+    /**
+     * Determines if the server provided a validator that can be used for a conditional request.
+     *
+     * @return `true` if either an ETag or a Last-Modified date is known.
+     */
+    public boolean hasValidators() {
+        return entityTag != null || lastModified != null;
+    }
+
+    /**
+     * Opens the stored response body for reading.
+     *
+     * @return Stream over the cached response body
+     *
+     * @throws IOException When the body could not be opened
+     */
+    public InputStream openBody() throws IOException {
+        return new FileInputStream(body);
+    }
+}
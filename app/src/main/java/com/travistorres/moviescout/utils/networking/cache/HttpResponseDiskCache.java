@@ -0,0 +1,475 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking.cache;
+
+import android.content.Context;
+
+import com.travistorres.moviescout.R;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * HttpResponseDiskCache
+ *
+ * A bounded cache which stores the bodies of HTTP responses on disk.  Entries are keyed by their
+ * request URL with the api key query removed so that a change of key will not invalidate the
+ * cache and so that the key is never written to disk.
+ *
+ * The Cache-Control max-age directive determines how long an entry may be served without
+ * contacting the server.  Once an entry has expired its ETag and Last-Modified validators may be
+ * sent along with the next request so that the server may reply with a 304 instead of the full
+ * body.  The least recently used entries are removed once the cache grows past its size limit.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class HttpResponseDiskCache {
+    private static final String BODY_EXTENSION = ".body";
+    private static final String CACHE_CONTROL_HEADER = "Cache-Control";
+    private static final String CACHE_DIRECTORY_NAME = "http-responses";
+    private static final String CHARSET = "UTF-8";
+    private static final String ETAG_HEADER = "ETag";
+    private static final String HASH_ALGORITHM = "SHA-1";
+    private static final String LAST_MODIFIED_HEADER = "Last-Modified";
+    private static final String MAX_AGE_DIRECTIVE = "max-age=";
+    private static final String METADATA_EXTENSION = ".meta";
+    private static final String NO_CACHE_DIRECTIVE = "no-cache";
+    private static final String NO_STORE_DIRECTIVE = "no-store";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private static final long DO_NOT_STORE = -1;
+
+    private final File directory;
+    private final long maxSize;
+    private final String apiKeyQueryKey;
+
+    /**
+     * Constructs a cache within the applications cache directory.
+     *
+     * @param context
+     * @param maxSizeInBytes The number of bytes the cache may occupy before entries are evicted
+     */
+    public HttpResponseDiskCache(Context context, long maxSizeInBytes) {
+        directory = new File(context.getCacheDir(), CACHE_DIRECTORY_NAME);
+        maxSize = maxSizeInBytes;
+        apiKeyQueryKey = context.getString(R.string.movie_db_api_key_query_key);
+
+        directory.mkdirs();
+    }
+
+    /**
+     * Removes the api key from the URL so that it may be used to identify the resource.
+     *
+     * @param url
+     *
+     * @return The URL as a String without the api key query
+     */
+    public String getCacheKey(URL url) {
+        String query = url.getQuery();
+        String resource = url.getProtocol().toLowerCase() + "://" + url.getAuthority() + url.getPath();
+        if (query == null) {
+            return resource;
+        }
+
+        //  rebuild the query without the api key parameter
+        StringBuilder key = new StringBuilder(resource);
+        char separator = '?';
+        for (String parameter : query.split("&")) {
+            if (!parameter.startsWith(apiKeyQueryKey + "=")) {
+                key.append(separator).append(parameter);
+                separator = '&';
+            }
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * Retrieves the cache entry for the specified URL.
+     *
+     * @param url
+     *
+     * @return The cached response or null if the resource has not been stored.
+     */
+    public synchronized CachedResponse get(URL url) {
+        String fileName = getFileName(url);
+        File body = new File(directory, fileName + BODY_EXTENSION);
+        File metadata = new File(directory, fileName + METADATA_EXTENSION);
+        if (!body.exists() || !metadata.exists()) {
+            return null;
+        }
+
+        CachedResponse response = null;
+        DataInputStream input = null;
+        try {
+            input = new DataInputStream(new FileInputStream(metadata));
+            String entityTag = readNullableString(input);
+            String lastModified = readNullableString(input);
+            long expiresAt = input.readLong();
+            response = new CachedResponse(body, entityTag, lastModified, expiresAt);
+
+            //  record the access so that the entry is treated as recently used
+            body.setLastModified(System.currentTimeMillis());
+        } catch (IOException e) {
+            e.printStackTrace();
+            remove(fileName);
+        } finally {
+            closeQuietly(input);
+        }
+
+        return response;
+    }
+
+    /**
+     * Begins storing the body of a successful response along with the validators that were
+     * supplied by the server.
+     *
+     * @param url
+     * @param connection The connection the response is being read from
+     *
+     * @return An editor which the body should be written into or null if the response forbids
+     * storage or the entry could not be created.
+     */
+    public Editor edit(URL url, HttpURLConnection connection) {
+        long expiresAt = getExpirationTime(connection);
+        if (expiresAt == DO_NOT_STORE) {
+            return null;
+        }
+
+        String entityTag = connection.getHeaderField(ETAG_HEADER);
+        String lastModified = connection.getHeaderField(LAST_MODIFIED_HEADER);
+        try {
+            return new Editor(getFileName(url), entityTag, lastModified, expiresAt);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Updates the expiration time of an entry after the server has confirmed that the resource
+     * has not been modified.
+     *
+     * @param url
+     * @param cachedResponse The entry which was revalidated
+     * @param connection The connection which returned the 304 response
+     *
+     * @return The updated cache entry
+     */
+    public synchronized CachedResponse revalidate(URL url, CachedResponse cachedResponse, HttpURLConnection connection) {
+        long expiresAt = Math.max(getExpirationTime(connection), 0);
+        String entityTag = connection.getHeaderField(ETAG_HEADER);
+        String lastModified = connection.getHeaderField(LAST_MODIFIED_HEADER);
+
+        //  a 304 may omit validators in which case the stored ones remain valid
+        if (entityTag == null) {
+            entityTag = cachedResponse.entityTag;
+        }
+        if (lastModified == null) {
+            lastModified = cachedResponse.lastModified;
+        }
+
+        String fileName = getFileName(url);
+        try {
+            writeMetadata(fileName, entityTag, lastModified, expiresAt);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return new CachedResponse(cachedResponse.body, entityTag, lastModified, expiresAt);
+    }
+
+    /**
+     * Removes all entries from the cache.
+     *
+     */
+    public synchronized void clear() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Determines the time at which a response must be revalidated based on its Cache-Control
+     * header.
+     *
+     * @param connection
+     *
+     * @return Expiration time in milliseconds, zero if the response must always be revalidated
+     * or DO_NOT_STORE if the response may not be cached.
+     */
+    private static long getExpirationTime(HttpURLConnection connection) {
+        long maxAgeInSeconds = 0;
+        String cacheControl = connection.getHeaderField(CACHE_CONTROL_HEADER);
+        if (cacheControl != null) {
+            for (String directive : cacheControl.split(",")) {
+                directive = directive.trim().toLowerCase();
+                if (directive.equals(NO_STORE_DIRECTIVE)) {
+                    return DO_NOT_STORE;
+                } else if (directive.equals(NO_CACHE_DIRECTIVE)) {
+                    return 0;
+                } else if (directive.startsWith(MAX_AGE_DIRECTIVE)) {
+                    try {
+                        maxAgeInSeconds = Long.parseLong(directive.substring(MAX_AGE_DIRECTIVE.length()));
+                    } catch (NumberFormatException e) {
+                        maxAgeInSeconds = 0;
+                    }
+                }
+            }
+        }
+
+        return maxAgeInSeconds > 0 ?
+                System.currentTimeMillis() + maxAgeInSeconds * 1000 :
+                0;
+    }
+
+    /**
+     * Removes the least recently used entries until the cache fits within its size limit.
+     *
+     */
+    private void trimToSize() {
+        File[] bodies = directory.listFiles();
+        if (bodies == null) {
+            return;
+        }
+
+        long size = 0;
+        for (File file : bodies) {
+            size += file.length();
+        }
+
+        //  oldest access times are evicted first
+        Arrays.sort(bodies, new Comparator<File>() {
+            @Override
+            public int compare(File first, File second) {
+                long difference = first.lastModified() - second.lastModified();
+                return difference < 0 ? -1 : (difference > 0 ? 1 : 0);
+            }
+        });
+
+        for (int i = 0; i < bodies.length && size > maxSize; ++i) {
+            String name = bodies[i].getName();
+            if (name.endsWith(BODY_EXTENSION)) {
+                String fileName = name.substring(0, name.length() - BODY_EXTENSION.length());
+                File metadata = new File(directory, fileName + METADATA_EXTENSION);
+                size -= bodies[i].length() + metadata.length();
+                remove(fileName);
+            }
+        }
+    }
+
+    /**
+     * Writes the validators and expiration time of an entry.
+     *
+     * @param fileName
+     * @param entityTag
+     * @param lastModified
+     * @param expiresAt
+     *
+     * @throws IOException When the metadata could not be written
+     */
+    private void writeMetadata(String fileName, String entityTag, String lastModified, long expiresAt)
+            throws IOException {
+        DataOutputStream output = null;
+        try {
+            output = new DataOutputStream(new FileOutputStream(new File(directory, fileName + METADATA_EXTENSION)));
+            writeNullableString(output, entityTag);
+            writeNullableString(output, lastModified);
+            output.writeLong(expiresAt);
+        } finally {
+            closeQuietly(output);
+        }
+    }
+
+    /**
+     * Deletes all files belonging to an entry.
+     *
+     * @param fileName
+     */
+    private void remove(String fileName) {
+        new File(directory, fileName + BODY_EXTENSION).delete();
+        new File(directory, fileName + METADATA_EXTENSION).delete();
+    }
+
+    /**
+     * Converts the cache key of a URL into a name that is safe to use on the file system.
+     *
+     * @param url
+     *
+     * @return Hex encoded hash of the cache key
+     */
+    private String getFileName(URL url) {
+        String key = getCacheKey(url);
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            byte[] hash = digest.digest(key.getBytes(CHARSET));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+                hex.append(Character.forDigit(b & 0xF, 16));
+            }
+
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes a String that may be null.
+     *
+     * @param output
+     * @param value
+     *
+     * @throws IOException
+     */
+    private static void writeNullableString(DataOutputStream output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    /**
+     * Reads a String that was written by `writeNullableString`.
+     *
+     * @param input
+     *
+     * @return The stored value or null
+     *
+     * @throws IOException
+     */
+    private static String readNullableString(DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+
+    /**
+     * Closes a stream while ignoring failures.
+     *
+     * @param closeable
+     */
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Editor
+     *
+     * Writes a response body into a temporary file which only replaces the stored entry once the
+     * whole body has been received.  Readers will therefore never see a partial body.
+     *
+     */
+    public class Editor {
+        private final String fileName;
+        private final String entityTag;
+        private final String lastModified;
+        private final long expiresAt;
+        private final File temporaryBody;
+        private OutputStream output;
+
+        /**
+         * Creates the temporary file that the body will be written into.
+         *
+         * @param entryFileName
+         * @param eTag
+         * @param lastModifiedDate
+         * @param expirationTime
+         *
+         * @throws IOException When the temporary file could not be created
+         */
+        private Editor(String entryFileName, String eTag, String lastModifiedDate, long expirationTime)
+                throws IOException {
+            fileName = entryFileName;
+            entityTag = eTag;
+            lastModified = lastModifiedDate;
+            expiresAt = expirationTime;
+            temporaryBody = File.createTempFile(fileName, TEMPORARY_EXTENSION, directory);
+            output = new BufferedOutputStream(new FileOutputStream(temporaryBody));
+        }
+
+        /**
+         * Appends a single byte to the body.
+         *
+         * @param value
+         *
+         * @throws IOException
+         */
+        public void write(int value) throws IOException {
+            output.write(value);
+        }
+
+        /**
+         * Appends a range of bytes to the body.
+         *
+         * @param buffer
+         * @param offset
+         * @param length
+         *
+         * @throws IOException
+         */
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            output.write(buffer, offset, length);
+        }
+
+        /**
+         * Replaces the stored entry with the body that has been written.
+         *
+         */
+        public void commit() {
+            synchronized (HttpResponseDiskCache.this) {
+                try {
+                    output.close();
+                    writeMetadata(fileName, entityTag, lastModified, expiresAt);
+                    if (!temporaryBody.renameTo(new File(directory, fileName + BODY_EXTENSION))) {
+                        remove(fileName);
+                    }
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    remove(fileName);
+                } finally {
+                    temporaryBody.delete();
+                }
+
+                trimToSize();
+            }
+        }
+
+        /**
+         * Discards the body that has been written.
+         *
+         */
+        public void abort() {
+            closeQuietly(output);
+            temporaryBody.delete();
+        }
+    }
+}
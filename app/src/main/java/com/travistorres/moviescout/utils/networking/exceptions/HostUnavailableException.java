@@ -0,0 +1,31 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking.exceptions;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * HostUnavailableException
+ *
+ * Thrown without contacting the server when requests to a host have been suspended because it
+ * kept failing.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class HostUnavailableException extends NetworkingException {
+    private static final String DEFAULT_MESSAGE = "Requests are suspended while the host is failing:  ";
+
+    /**
+     * Logs the url which was not requested.
+     *
+     * @param url The url that was not requested
+     */
+    public HostUnavailableException(URL url) {
+        super(DEFAULT_MESSAGE, url, HttpURLConnection.HTTP_UNAVAILABLE);
+    }
+}
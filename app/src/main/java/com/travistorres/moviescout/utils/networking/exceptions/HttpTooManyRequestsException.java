@@ -0,0 +1,47 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking.exceptions;
+
+import java.net.URL;
+
+/**
+ * HttpTooManyRequestsException
+ *
+ * Thrown when a resource refuses a request because the rate limit of the client was exceeded.
+ * The server may specify how long the client should wait before trying again.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class HttpTooManyRequestsException extends NetworkingException {
+    public static final int HTTP_TOO_MANY_REQUESTS = 429;
+    public static final long UNSPECIFIED_RETRY_AFTER = -1;
+
+    private static final String DEFAULT_MESSAGE = "Rate limit exceeded for the following resource:  ";
+
+    private final long retryAfter;
+
+    /**
+     * Logs the rate limited url.
+     *
+     * @param url The url that was rate limited
+     * @param retryAfterMillis Time the server asked to wait or UNSPECIFIED_RETRY_AFTER
+     */
+    public HttpTooManyRequestsException(URL url, long retryAfterMillis) {
+        super(DEFAULT_MESSAGE, url, HTTP_TOO_MANY_REQUESTS);
+
+        retryAfter = retryAfterMillis;
+    }
+
+    /**
+     * Time the server asked the client to wait before the next request.
+     *
+     * @return delay in milliseconds or UNSPECIFIED_RETRY_AFTER
+     */
+    public long getRetryAfter() {
+        return retryAfter;
+    }
+}
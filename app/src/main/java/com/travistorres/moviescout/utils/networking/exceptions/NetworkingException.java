@@ -21,6 +21,8 @@ import java.net.URL;
 public class NetworkingException extends Exception {
     private final static String LOG_MESSAGE = "Movie Scout Networking Exception was thrown:  [HTTP ";
 
+    private final int responseCode;
+
     /**
      * Will log that an exception was thrown due to the applications Networking features failing.
      *
@@ -29,6 +31,17 @@ public class NetworkingException extends Exception {
     public NetworkingException(String message, URL url, int httpResponseCode) {
         super(message + url.toString());
 
+        responseCode = httpResponseCode;
+
         Log.e(getClass().toString(), LOG_MESSAGE + httpResponseCode + "] " + message + url.toString());
     }
+
+    /**
+     * Retrieves the HTTP status which caused the exception.
+     *
+     * @return HTTP response code
+     */
+    public int getResponseCode() {
+        return responseCode;
+    }
 }
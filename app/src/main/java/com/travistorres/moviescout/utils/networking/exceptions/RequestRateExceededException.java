@@ -0,0 +1,30 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking.exceptions;
+
+import java.net.URL;
+
+/**
+ * RequestRateExceededException
+ *
+ * Thrown without contacting the server when a request could not be sent in time without
+ * exceeding the rate limit of the server.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class RequestRateExceededException extends NetworkingException {
+    private static final String DEFAULT_MESSAGE = "Too many requests are waiting to be sent to:  ";
+
+    /**
+     * Logs the url which was not requested.
+     *
+     * @param url The url that was not requested
+     */
+    public RequestRateExceededException(URL url) {
+        super(DEFAULT_MESSAGE, url, HttpTooManyRequestsException.HTTP_TOO_MANY_REQUESTS);
+    }
+}
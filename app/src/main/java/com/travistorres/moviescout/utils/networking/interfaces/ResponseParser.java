@@ -0,0 +1,22 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking.interfaces;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * ResponseParser
+ *
+ * Converts the body of a network response into some object directly from the response stream
+ * so that the body never needs to be held in memory as a whole.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public interface ResponseParser<T> {
+    T parse(InputStream response) throws IOException;
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking.resilience;
+
+import android.os.SystemClock;
+
+/**
+ * CircuitBreaker
+ *
+ * Stops requests to a host after it has failed several times in a row so that callers fail
+ * immediately instead of waiting on timeouts.  Once the host has been left alone for a while a
+ * single trial request is allowed through.  The circuit closes again if the trial succeeds and
+ * stays open for another period if it fails.  A trial which never reports back is treated as
+ * failed once its timeout has passed so that a lost trial cannot disable the host for good.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public final class CircuitBreaker {
+    private enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDuration;
+    private final long trialTimeout;
+
+    private State state;
+    private int consecutiveFailures;
+    private long openedAt;
+    private long trialStartedAt;
+    private long rejectedRequestCount;
+
+    /**
+     * Specifies when the circuit should open.
+     *
+     * @param failureThreshold Consecutive failures which open the circuit
+     * @param openDuration Time in milliseconds before a trial request is allowed
+     * @param trialTimeout Time in milliseconds before a trial which has not reported is abandoned
+     */
+    public CircuitBreaker(int failureThreshold, long openDuration, long trialTimeout) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.trialTimeout = trialTimeout;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Determines if a request may be sent to the host.  When the circuit is half open only the
+     * first caller is allowed through.
+     *
+     * @return true if the request may be performed
+     */
+    public synchronized boolean allowRequest() {
+        long now = SystemClock.elapsedRealtime();
+
+        //  the trial was lost, so the circuit is open again as though it had failed
+        if (state == State.HALF_OPEN && now - trialStartedAt >= trialTimeout) {
+            state = State.OPEN;
+            openedAt = trialStartedAt;
+        }
+
+        if (state == State.OPEN && now - openedAt >= openDuration) {
+            state = State.HALF_OPEN;
+            trialStartedAt = now;
+            return true;
+        }
+
+        if (state != State.CLOSED) {
+            ++rejectedRequestCount;
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Records that the host responded.
+     *
+     */
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Records that the host failed to respond or reported a temporary problem.
+     *
+     */
+    public synchronized void recordFailure() {
+        ++consecutiveFailures;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = SystemClock.elapsedRealtime();
+        }
+    }
+
+    /**
+     * Determines if requests are currently being rejected.
+     *
+     * @return true unless the circuit is closed
+     */
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    /**
+     * Number of requests which were rejected without contacting the host.
+     *
+     * @return rejected request count
+     */
+    public synchronized long getRejectedRequestCount() {
+        return rejectedRequestCount;
+    }
+}
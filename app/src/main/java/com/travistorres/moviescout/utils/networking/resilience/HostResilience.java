@@ -0,0 +1,38 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking.resilience;
+
+/**
+ * HostResilience
+ *
+ * The circuit breaker and latency history which are kept for each host that is contacted.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public final class HostResilience {
+    private static final int CIRCUIT_FAILURE_THRESHOLD = 5;
+    private static final long CIRCUIT_OPEN_DURATION = 30000;
+    private static final long CIRCUIT_TRIAL_TIMEOUT = 60000;
+    private static final int MIN_TIMEOUT = 1500;
+    private static final int MAX_TIMEOUT = 10000;
+
+    public final String host;
+    public final CircuitBreaker circuitBreaker;
+    public final LatencyTracker latencyTracker;
+
+    /**
+     * Creates the resilience state for a host.
+     *
+     * @param host
+     * @param defaultTimeout Timeout in milliseconds until the latency of the host is known
+     */
+    public HostResilience(String host, int defaultTimeout) {
+        this.host = host;
+        circuitBreaker = new CircuitBreaker(CIRCUIT_FAILURE_THRESHOLD, CIRCUIT_OPEN_DURATION, CIRCUIT_TRIAL_TIMEOUT);
+        latencyTracker = new LatencyTracker(defaultTimeout, MIN_TIMEOUT, MAX_TIMEOUT);
+    }
+}
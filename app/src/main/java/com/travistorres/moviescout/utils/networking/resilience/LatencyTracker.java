@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking.resilience;
+
+import java.util.Arrays;
+
+/**
+ * LatencyTracker
+ *
+ * Remembers how long the most recent responses of a host took and derives a timeout from them.
+ * A fast host gets a short timeout so that a stalled connection is abandoned quickly, while a
+ * slow network gets a longer one so that requests which would have succeeded are not cut off.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public final class LatencyTracker {
+    private static final int SAMPLE_COUNT = 64;
+    private static final int MIN_SAMPLE_COUNT = 8;
+    private static final double TIMEOUT_PERCENTILE = 0.95;
+    private static final int TIMEOUT_MULTIPLIER = 3;
+
+    private final long[] samples;
+    private final int defaultTimeout;
+    private final int minTimeout;
+    private final int maxTimeout;
+
+    private int sampleCount;
+    private int nextSample;
+
+    /**
+     * Specifies the bounds of the timeout.
+     *
+     * @param defaultTimeout Timeout in milliseconds until enough responses have been observed
+     * @param minTimeout Shortest timeout in milliseconds
+     * @param maxTimeout Longest timeout in milliseconds
+     */
+    public LatencyTracker(int defaultTimeout, int minTimeout, int maxTimeout) {
+        samples = new long[SAMPLE_COUNT];
+        this.defaultTimeout = defaultTimeout;
+        this.minTimeout = minTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    /**
+     * Records the time a response took, replacing the oldest one when full.
+     *
+     * @param latency Time in milliseconds
+     */
+    public synchronized void record(long latency) {
+        samples[nextSample] = latency;
+        nextSample = (nextSample + 1) % SAMPLE_COUNT;
+        sampleCount = Math.min(sampleCount + 1, SAMPLE_COUNT);
+    }
+
+    /**
+     * Computes a percentile of the recorded latencies.
+     *
+     * @param percentile Value between 0 and 1
+     *
+     * @return latency in milliseconds or -1 when nothing has been recorded
+     */
+    public synchronized long getPercentile(double percentile) {
+        if (sampleCount == 0) {
+            return -1;
+        }
+
+        long[] sorted = Arrays.copyOf(samples, sampleCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sampleCount) - 1;
+
+        return sorted[Math.max(0, Math.min(index, sampleCount - 1))];
+    }
+
+    /**
+     * Derives a timeout from the slowest of the typical responses.
+     *
+     * @return timeout in milliseconds
+     */
+    public int getTimeout() {
+        long percentileLatency;
+        synchronized (this) {
+            if (sampleCount < MIN_SAMPLE_COUNT) {
+                return defaultTimeout;
+            }
+            percentileLatency = getPercentile(TIMEOUT_PERCENTILE);
+        }
+
+        long timeout = percentileLatency * TIMEOUT_MULTIPLIER;
+        return (int) Math.max(minTimeout, Math.min(timeout, maxTimeout));
+    }
+}
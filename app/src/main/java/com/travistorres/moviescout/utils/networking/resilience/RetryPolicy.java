@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking.resilience;
+
+import java.net.HttpURLConnection;
+import java.util.Random;
+
+/**
+ * RetryPolicy
+ *
+ * Decides whether a failed request should be attempted again and how long to wait before doing
+ * so.  The wait grows exponentially with each attempt and a random portion of it is used so that
+ * clients which failed at the same time do not all retry at the same time.
+ *
+ * Only meant for idempotent requests such as GET.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public final class RetryPolicy {
+    private final int maxAttempts;
+    private final long baseDelay;
+    private final long maxDelay;
+    private final Random random;
+
+    /**
+     * Specifies the limits of the policy.
+     *
+     * @param maxAttempts Total number of attempts including the first
+     * @param baseDelay Wait before the second attempt in milliseconds
+     * @param maxDelay Longest wait between two attempts in milliseconds
+     */
+    public RetryPolicy(int maxAttempts, long baseDelay, long maxDelay) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        random = new Random();
+    }
+
+    /**
+     * Determines if another attempt may be made.
+     *
+     * @param attempt The attempt which just failed, starting at 1
+     *
+     * @return true if the request may be attempted again
+     */
+    public boolean canRetry(int attempt) {
+        return attempt < maxAttempts;
+    }
+
+    /**
+     * Determines how long to wait before the next attempt.
+     *
+     * @param attempt The attempt which just failed, starting at 1
+     *
+     * @return delay in milliseconds
+     */
+    public long getBackoffDelay(int attempt) {
+        long ceiling = baseDelay << Math.min(attempt - 1, 16);
+        ceiling = Math.min(ceiling, maxDelay);
+
+        //  half of the delay is fixed and the other half is random
+        long halfCeiling = ceiling / 2;
+        return halfCeiling + (long) (random.nextDouble() * (ceiling - halfCeiling));
+    }
+
+    /**
+     * Determines if a response indicates a temporary problem with the server.
+     *
+     * @param responseCode
+     *
+     * @return true if the same request may succeed later
+     */
+    public static boolean isRetryable(int responseCode) {
+        switch (responseCode) {
+            case HttpURLConnection.HTTP_CLIENT_TIMEOUT:
+            case HttpURLConnection.HTTP_INTERNAL_ERROR:
+            case HttpURLConnection.HTTP_BAD_GATEWAY:
+            case HttpURLConnection.HTTP_UNAVAILABLE:
+            case HttpURLConnection.HTTP_GATEWAY_TIMEOUT:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.networking.resilience;
+
+import android.os.SystemClock;
+
+import com.travistorres.moviescout.utils.tasks.TaskPriority;
+
+/**
+ * TokenBucketRateLimiter
+ *
+ * Paces requests so that the rate limit of a server is never exceeded.  Every request takes a
+ * token from a bucket which is refilled at a steady rate, allowing short bursts up to the size of
+ * the bucket.
+ *
+ * Lower priorities must leave part of the bucket untouched so that a burst of prefetching or
+ * background synchronization can never delay what the user is waiting on.  A caller which would
+ * have to wait longer than its priority allows is rejected instead.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public final class TokenBucketRateLimiter {
+    /*
+     *  Portion of the bucket that each priority must leave for the ones above it.
+     *
+     */
+    private static final double[] RESERVED_FRACTION = {
+            0.0,    //  VISIBLE
+            0.125,  //  PREFETCH
+            0.375   //  BACKGROUND
+    };
+
+    /*
+     *  Longest time in milliseconds that each priority may wait for a token.  Waiting holds a
+     *  network thread, so background work is rejected early and picked up by its next run rather
+     *  than keeping a thread from the pages the user is scrolling towards.
+     *
+     */
+    private static final long[] MAX_WAIT = {
+            2000,   //  VISIBLE
+            5000,   //  PREFETCH
+            3000    //  BACKGROUND
+    };
+
+    //  longest time in milliseconds before a waiting caller checks whether its priority was raised
+    private static final long PRIORITY_CHECK_INTERVAL = 100;
+
+    private final int capacity;
+    private final double tokensPerMillisecond;
+
+    private double tokens;
+    private long lastRefill;
+    private long grantedCount;
+    private long delayedCount;
+    private long rejectedCount;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param capacity Largest number of requests which may be sent in a burst
+     * @param period Time in milliseconds it takes to refill an empty bucket
+     */
+    public TokenBucketRateLimiter(int capacity, long period) {
+        this.capacity = capacity;
+        tokensPerMillisecond = (double) capacity / period;
+        tokens = capacity;
+        lastRefill = SystemClock.elapsedRealtime();
+    }
+
+    /**
+     * Takes a token, waiting for one to become available if necessary.
+     *
+     * @param priority The priority of the request
+     *
+     * @return true if a token was taken and false if the request was rejected
+     *
+     * @throws InterruptedException When the thread was interrupted while waiting
+     */
+    public boolean acquire(final TaskPriority priority) throws InterruptedException {
+        return acquire(new PrioritySource() {
+            @Override
+            public TaskPriority getPriority() {
+                return priority;
+            }
+        });
+    }
+
+    /**
+     * Takes a token, waiting for one to become available if necessary.  The priority is read
+     * again while waiting so that a request whose priority is raised is served accordingly.
+     *
+     * @param prioritySource Supplies the current priority of the request
+     *
+     * @return true if a token was taken and false if the request was rejected
+     *
+     * @throws InterruptedException When the thread was interrupted while waiting
+     */
+    public synchronized boolean acquire(PrioritySource prioritySource) throws InterruptedException {
+        long start = SystemClock.elapsedRealtime();
+        boolean wasDelayed = false;
+
+        while (true) {
+            long now = SystemClock.elapsedRealtime();
+            refill(now);
+
+            int lane = prioritySource.getPriority().ordinal();
+            double reserve = capacity * RESERVED_FRACTION[lane];
+            long deadline = start + MAX_WAIT[lane];
+
+            if (tokens - reserve >= 1) {
+                tokens -= 1;
+                ++grantedCount;
+                if (wasDelayed) {
+                    ++delayedCount;
+                }
+
+                return true;
+            }
+
+            //  give up right away if the token would not arrive in time
+            long refillTime = (long) Math.ceil((reserve + 1 - tokens) / tokensPerMillisecond);
+            if (now + refillTime > deadline) {
+                ++rejectedCount;
+                return false;
+            }
+
+            wasDelayed = true;
+            wait(Math.max(1, Math.min(refillTime, PRIORITY_CHECK_INTERVAL)));
+        }
+    }
+
+    /**
+     * Number of requests which were allowed through.
+     *
+     * @return granted request count
+     */
+    public synchronized long getGrantedCount() {
+        return grantedCount;
+    }
+
+    /**
+     * Number of requests which had to wait for a token before being allowed through.
+     *
+     * @return delayed request count
+     */
+    public synchronized long getDelayedCount() {
+        return delayedCount;
+    }
+
+    /**
+     * Number of requests which were rejected since they would have waited too long.
+     *
+     * @return rejected request count
+     */
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Adds the tokens which have accumulated since the last refill.
+     *
+     * @param now
+     */
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerMillisecond);
+        lastRefill = now;
+    }
+
+    /**
+     * PrioritySource
+     *
+     * Supplies the priority of a request which may change while the request is waiting.
+     *
+     */
+    public interface PrioritySource {
+        /**
+         * Retrieves the priority the request currently has.
+         *
+         * @return priority of the request
+         */
+        TaskPriority getPriority();
+    }
+}
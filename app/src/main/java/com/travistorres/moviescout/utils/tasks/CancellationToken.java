@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * CancellationToken
+ *
+ * Groups scheduled tasks which belong to the same owner, such as an Activity, so that all of them
+ * can be cancelled at once when the owner goes away.  Queued tasks are removed before they start
+ * and running tasks may check isCancelled to stop early.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class CancellationToken {
+    private final List<Future<?>> tasks;
+    private boolean isCancelled;
+
+    /**
+     * Creates a token which has not been cancelled.
+     *
+     */
+    public CancellationToken() {
+        tasks = new ArrayList<>();
+    }
+
+    /**
+     * Determines if the token has been cancelled.
+     *
+     * @return true once cancel has been called
+     */
+    public synchronized boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Cancels every task which is associated with the token along with any task that is
+     * associated with it afterwards.
+     *
+     */
+    public void cancel() {
+        List<Future<?>> cancelledTasks;
+        synchronized (this) {
+            if (isCancelled) {
+                return;
+            }
+
+            isCancelled = true;
+            cancelledTasks = new ArrayList<>(tasks);
+            tasks.clear();
+        }
+
+        for (Future<?> task : cancelledTasks) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Associates a task with the token.  The task is cancelled immediately if the token was
+     * already cancelled.
+     *
+     * @param task
+     */
+    void register(Future<?> task) {
+        synchronized (this) {
+            if (!isCancelled) {
+                tasks.add(task);
+                return;
+            }
+        }
+
+        task.cancel(false);
+    }
+
+    /**
+     * Removes a task which has finished running.
+     *
+     * @param task
+     */
+    synchronized void unregister(Future<?> task) {
+        tasks.remove(task);
+    }
+}
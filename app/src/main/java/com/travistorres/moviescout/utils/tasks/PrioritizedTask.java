@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.tasks;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * PrioritizedTask
+ *
+ * A task which is ordered within the queue of a thread pool by its priority and then by the
+ * order in which it was scheduled.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+class PrioritizedTask<T> extends FutureTask<T> implements Comparable<PrioritizedTask<?>> {
+    private final CancellationToken cancellationToken;
+    private final long sequenceNumber;
+    private final ThreadPoolExecutor executor;
+
+    final TaskPriority priority;
+
+    /**
+     * Constructs a task which has not been scheduled yet.
+     *
+     * @param callable The work to perform
+     * @param taskPriority
+     * @param token Token which may cancel the task, or null
+     * @param taskExecutor The pool the task will be queued on
+     * @param sequence Increasing number used to run tasks of the same priority in order
+     */
+    PrioritizedTask(Callable<T> callable, TaskPriority taskPriority, CancellationToken token, ThreadPoolExecutor taskExecutor, long sequence) {
+        super(callable);
+
+        priority = taskPriority;
+        cancellationToken = token;
+        executor = taskExecutor;
+        sequenceNumber = sequence;
+    }
+
+    /**
+     * Runs the task while exposing its priority to the code it calls.
+     *
+     */
+    @Override
+    public void run() {
+        TaskScheduler.sCurrentPriority.set(priority);
+        try {
+            super.run();
+        } finally {
+            TaskScheduler.sCurrentPriority.remove();
+        }
+    }
+
+    /**
+     * Cancels the task and removes it from the queue so that it no longer counts towards the
+     * queue depth.
+     *
+     * @param mayInterruptIfRunning
+     *
+     * @return false if the task had already completed
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean wasCancelled = super.cancel(mayInterruptIfRunning);
+        if (wasCancelled) {
+            executor.remove(this);
+        }
+
+        return wasCancelled;
+    }
+
+    /**
+     * Releases the task from its cancellation token once it is finished.
+     *
+     */
+    @Override
+    protected void done() {
+        if (cancellationToken != null) {
+            cancellationToken.unregister(this);
+        }
+    }
+
+    /**
+     * Orders tasks by priority and then by the order in which they were scheduled.
+     *
+     * @param other
+     *
+     * @return negative if this task should run first
+     */
+    @Override
+    public int compareTo(PrioritizedTask<?> other) {
+        int priorityComparison = priority.compareTo(other.priority);
+        if (priorityComparison != 0) {
+            return priorityComparison;
+        }
+
+        return sequenceNumber < other.sequenceNumber ? -1 : (sequenceNumber == other.sequenceNumber ? 0 : 1);
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.tasks;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.v4.content.Loader;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ScheduledTaskLoader
+ *
+ * A Loader which performs its work on the shared TaskScheduler rather than on a thread of its
+ * own.  Subclasses only need to implement loadInBackground in the same way as an
+ * AsyncTaskLoader.  The running task is cancelled whenever the loader is cancelled or reset, such
+ * as when the Activity that owns it goes away.  Like an AsyncTaskLoader, the loader reports a
+ * cancellation whenever a load ends without a result so that restarted loaders are not left
+ * waiting on it.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public abstract class ScheduledTaskLoader<T> extends Loader<T> {
+    private final Handler mainHandler;
+    private final TaskPool pool;
+    private final TaskPriority priority;
+
+    private LoadTask currentLoad;
+
+    /**
+     * Specifies where the loader should perform its work.
+     *
+     * @param context
+     * @param taskPool The pool of threads the work should run on
+     * @param taskPriority How urgently the work needs to run
+     */
+    public ScheduledTaskLoader(Context context, TaskPool taskPool, TaskPriority taskPriority) {
+        super(context);
+
+        mainHandler = new Handler(Looper.getMainLooper());
+        pool = taskPool;
+        priority = taskPriority;
+    }
+
+    /**
+     * Performs the work of the loader on a background thread.
+     *
+     * @return The result to deliver
+     */
+    public abstract T loadInBackground();
+
+    /**
+     * Schedules the work of the loader.  Any work which is still running is cancelled first.
+     *
+     */
+    @Override
+    protected void onForceLoad() {
+        super.onForceLoad();
+
+        cancelLoadInBackground();
+
+        currentLoad = new LoadTask();
+        TaskScheduler.getInstance().submit(pool, priority, currentLoad.token, currentLoad);
+    }
+
+    /**
+     * Cancels the work which is currently being performed.  The loader manager is told once the
+     * cancelled work has ended so that a loader which is waiting on this one may start.
+     *
+     * @return true if there was work to cancel
+     */
+    @Override
+    protected boolean onCancelLoad() {
+        return cancelLoadInBackground();
+    }
+
+    /**
+     * Cancels any work when the loader is no longer needed.
+     *
+     */
+    @Override
+    protected void onReset() {
+        super.onReset();
+
+        cancelLoadInBackground();
+    }
+
+    /**
+     * Delivers the result if it was produced by the most recent load.  A load which was cancelled
+     * or which failed reports a cancellation instead, as an AsyncTaskLoader does.
+     *
+     * @param load The load which has ended
+     * @param data
+     * @param isLoaded false if loadInBackground failed
+     */
+    private void onLoadEnded(LoadTask load, T data, boolean isLoaded) {
+        if (load != currentLoad || load.token.isCancelled()) {
+            deliverCancellation();
+            return;
+        }
+
+        currentLoad = null;
+        if (!isLoaded) {
+            deliverCancellation();
+        } else if (!isAbandoned() && !isReset()) {
+            deliverResult(data);
+        }
+    }
+
+    /**
+     * Cancels the token of the current load.  A load which had not started yet is removed from
+     * its queue and will never end on its own, so its cancellation is reported here.
+     *
+     * @return true if there was a load to cancel
+     */
+    private boolean cancelLoadInBackground() {
+        if (currentLoad == null) {
+            return false;
+        }
+
+        LoadTask load = currentLoad;
+        currentLoad = null;
+        load.token.cancel();
+        if (load.isStarted.compareAndSet(false, true)) {
+            mainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    deliverCancellation();
+                }
+            });
+        }
+
+        return true;
+    }
+
+    /**
+     * LoadTask
+     *
+     * A single run of loadInBackground.  Whichever of the task and its cancellation claims the
+     * task first is responsible for reporting how it ended.
+     *
+     */
+    private class LoadTask implements Callable<T> {
+        final CancellationToken token = new CancellationToken();
+        final AtomicBoolean isStarted = new AtomicBoolean();
+
+        @Override
+        public T call() throws Exception {
+            if (!isStarted.compareAndSet(false, true)) {
+                return null;
+            }
+
+            T data = null;
+            boolean isLoaded = false;
+            try {
+                data = loadInBackground();
+                isLoaded = true;
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+
+            final T result = data;
+            final boolean wasLoaded = isLoaded;
+            mainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    onLoadEnded(LoadTask.this, result, wasLoaded);
+                }
+            });
+
+            return data;
+        }
+    }
+}
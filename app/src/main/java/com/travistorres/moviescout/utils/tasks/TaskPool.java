@@ -0,0 +1,22 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.tasks;
+
+/**
+ * TaskPool
+ *
+ * Identifies the pool of threads which a task should run on.  Network and disk tasks are kept
+ * apart so that slow requests never hold up database access and vice versa.  Work which only
+ * uses the CPU, such as diffing lists, runs on its own pool so that it never waits behind either.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public enum TaskPool {
+    NETWORK,
+    DISK,
+    COMPUTE
+}
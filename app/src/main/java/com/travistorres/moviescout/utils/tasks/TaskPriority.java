@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.tasks;
+
+/**
+ * TaskPriority
+ *
+ * Specifies how urgently a scheduled task needs to run.  Tasks with a higher priority are always
+ * started before any queued task with a lower priority.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public enum TaskPriority {
+    /*
+     *  Produces something the user is currently looking at.
+     *
+     */
+    VISIBLE,
+
+    /*
+     *  Produces something the user is expected to look at soon.
+     *
+     */
+    PREFETCH,
+
+    /*
+     *  Work the user is not waiting on such as synchronizing favorites.
+     *
+     */
+    BACKGROUND
+}
@@ -0,0 +1,253 @@
+/**
+ * Copyright (C) 2017 Travis Anthony Torres
+ */
+
+package com.travistorres.moviescout.utils.tasks;
+
+import android.os.Process;
+
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TaskScheduler
+ *
+ * Runs all background work of the application on a small number of shared threads.  Network,
+ * disk and compute work each have their own pool and every task is queued by its priority so that work the
+ * user is looking at always starts before prefetching and background synchronization.
+ *
+ * @author Travis Anthony Torres
+ * @version October 17, 2026
+ */
+
+public class TaskScheduler {
+    private static final int NETWORK_THREAD_COUNT = 4;
+    private static final int DISK_THREAD_COUNT = 2;
+    private static final int MAX_COMPUTE_THREAD_COUNT = 2;
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    static final ThreadLocal<TaskPriority> sCurrentPriority = new ThreadLocal<>();
+
+    private static TaskScheduler sInstance;
+
+    private final AtomicLong sequenceNumber;
+    private final AtomicInteger[] peakQueueDepths;
+    private final ThreadPoolExecutor[] executors;
+
+    /**
+     * Retrieves the scheduler shared by the entire application.
+     *
+     * @return The task scheduler
+     */
+    public static synchronized TaskScheduler getInstance() {
+        if (sInstance == null) {
+            sInstance = new TaskScheduler();
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Retrieves the priority of the task which is running on the calling thread.
+     *
+     * @return priority of the current task or VISIBLE when not called from a scheduled task
+     */
+    public static TaskPriority getCurrentPriority() {
+        TaskPriority priority = sCurrentPriority.get();
+
+        return priority != null ? priority : TaskPriority.VISIBLE;
+    }
+
+    /**
+     * Creates the thread pools.
+     *
+     */
+    private TaskScheduler() {
+        sequenceNumber = new AtomicLong();
+
+        TaskPool[] pools = TaskPool.values();
+        executors = new ThreadPoolExecutor[pools.length];
+        peakQueueDepths = new AtomicInteger[pools.length];
+        executors[TaskPool.NETWORK.ordinal()] = createExecutor(TaskPool.NETWORK, NETWORK_THREAD_COUNT);
+        executors[TaskPool.DISK.ordinal()] = createExecutor(TaskPool.DISK, DISK_THREAD_COUNT);
+
+        //  leaves a core free for the UI thread
+        int computeThreadCount = Math.max(1, Math.min(MAX_COMPUTE_THREAD_COUNT, Runtime.getRuntime().availableProcessors() - 1));
+        executors[TaskPool.COMPUTE.ordinal()] = createExecutor(TaskPool.COMPUTE, computeThreadCount);
+        for (TaskPool pool : pools) {
+            peakQueueDepths[pool.ordinal()] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * Creates a fixed size pool whose queue is ordered by task priority.
+     *
+     * @param pool
+     * @param threadCount
+     *
+     * @return thread pool
+     */
+    private static ThreadPoolExecutor createExecutor(TaskPool pool, int threadCount) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threadCount,
+                threadCount,
+                THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new PriorityBlockingQueue<Runnable>(),
+                new BackgroundThreadFactory(pool));
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+    /**
+     * Schedules a task which produces a result.
+     *
+     * @param pool The pool the task should run on
+     * @param priority How urgently the task needs to run
+     * @param token Token which may cancel the task, or null
+     * @param callable The work to perform
+     *
+     * @return Future which can be used to wait for or cancel the task
+     */
+    public <T> Future<T> submit(TaskPool pool, TaskPriority priority, CancellationToken token, Callable<T> callable) {
+        ThreadPoolExecutor executor = executors[pool.ordinal()];
+        PrioritizedTask<T> task = new PrioritizedTask<>(callable, priority, token, executor, sequenceNumber.getAndIncrement());
+        if (token != null) {
+            token.register(task);
+        }
+
+        //  the queue only accepts comparable tasks so they are executed rather than submitted
+        if (!task.isCancelled()) {
+            executor.execute(task);
+            recordQueueDepth(pool);
+        }
+
+        return task;
+    }
+
+    /**
+     * Schedules a task which does not produce a result.
+     *
+     * @param pool The pool the task should run on
+     * @param priority How urgently the task needs to run
+     * @param token Token which may cancel the task, or null
+     * @param runnable The work to perform
+     *
+     * @return Future which can be used to wait for or cancel the task
+     */
+    public Future<?> submit(TaskPool pool, TaskPriority priority, CancellationToken token, Runnable runnable) {
+        return submit(pool, priority, token, Executors.callable(runnable));
+    }
+
+    /**
+     * Number of tasks waiting to start in a pool.
+     *
+     * @param pool
+     *
+     * @return queued task count
+     */
+    public int getQueueDepth(TaskPool pool) {
+        return executors[pool.ordinal()].getQueue().size();
+    }
+
+    /**
+     * Number of tasks of a specific priority waiting to start in a pool.
+     *
+     * @param pool
+     * @param priority
+     *
+     * @return queued task count
+     */
+    public int getQueueDepth(TaskPool pool, TaskPriority priority) {
+        int depth = 0;
+        for (Runnable runnable : executors[pool.ordinal()].getQueue()) {
+            if (runnable instanceof PrioritizedTask && ((PrioritizedTask) runnable).priority == priority) {
+                ++depth;
+            }
+        }
+
+        return depth;
+    }
+
+    /**
+     * Largest number of tasks which have been waiting in a pool at the same time.
+     *
+     * @param pool
+     *
+     * @return peak queued task count
+     */
+    public int getPeakQueueDepth(TaskPool pool) {
+        return peakQueueDepths[pool.ordinal()].get();
+    }
+
+    /**
+     * Number of tasks currently running in a pool.
+     *
+     * @param pool
+     *
+     * @return running task count
+     */
+    public int getActiveTaskCount(TaskPool pool) {
+        return executors[pool.ordinal()].getActiveCount();
+    }
+
+    /**
+     * Number of tasks which have finished running in a pool.
+     *
+     * @param pool
+     *
+     * @return completed task count
+     */
+    public long getCompletedTaskCount(TaskPool pool) {
+        return executors[pool.ordinal()].getCompletedTaskCount();
+    }
+
+    /**
+     * Keeps track of the largest queue depth seen for a pool.
+     *
+     * @param pool
+     */
+    private void recordQueueDepth(TaskPool pool) {
+        int depth = getQueueDepth(pool);
+        AtomicInteger peakQueueDepth = peakQueueDepths[pool.ordinal()];
+        int peak = peakQueueDepth.get();
+        while (depth > peak && !peakQueueDepth.compareAndSet(peak, depth)) {
+            peak = peakQueueDepth.get();
+        }
+    }
+
+    /**
+     * BackgroundThreadFactory
+     *
+     * Creates named threads which run below the priority of the UI thread.
+     *
+     */
+    private static class BackgroundThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+        private final String namePrefix;
+
+        BackgroundThreadFactory(TaskPool pool) {
+            namePrefix = "moviescout-" + pool.name().toLowerCase(Locale.US) + "-";
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            return new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                    runnable.run();
+                }
+            }, namePrefix + threadCount.incrementAndGet());
+        }
+    }
+}
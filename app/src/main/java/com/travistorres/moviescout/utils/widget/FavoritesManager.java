@@ -4,17 +4,23 @@
 
 package com.travistorres.moviescout.utils.widget;
 
+import android.content.ContentProviderOperation;
 import android.content.ContentResolver;
 import android.content.ContentValues;
 import android.content.Context;
+import android.content.OperationApplicationException;
 import android.database.sqlite.SQLiteDatabase;
 import android.net.Uri;
+import android.os.RemoteException;
+import android.text.TextUtils;
 
 import com.travistorres.moviescout.R;
+import com.travistorres.moviescout.utils.db.FavoriteMovieIds;
 import com.travistorres.moviescout.utils.db.MoviesDatabase;
 import com.travistorres.moviescout.utils.db.tables.MoviesTable;
 import com.travistorres.moviescout.utils.db.tables.ReviewsTable;
 import com.travistorres.moviescout.utils.db.tables.TrailersTable;
+import com.travistorres.moviescout.utils.images.OfflineImageStore;
 import com.travistorres.moviescout.utils.moviedb.builders.MovieBuilder;
 import com.travistorres.moviescout.utils.moviedb.models.Movie;
 import com.travistorres.moviescout.utils.moviedb.models.Review;
@@ -22,12 +28,14 @@ import com.travistorres.moviescout.utils.moviedb.models.Trailer;
 import com.travistorres.moviescout.utils.networking.NetworkManager;
 import com.travistorres.moviescout.utils.networking.UrlManager;
 import com.travistorres.moviescout.utils.networking.exceptions.NetworkingException;
+import com.travistorres.moviescout.utils.tasks.CancellationToken;
 
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
 
 /**
  * FavoritesManager
@@ -49,18 +57,31 @@ public class FavoritesManager {
 
     /**
      * Constructs a new FavoritesManager interface which will share a common connection to ensure
-     * valid data storage at all time using Database ACID properties.
+     * valid data storage at all time using Database ACID properties.  The connection is the one
+     * shared by the entire process and must be released by calling `close` once the manager is
+     * no longer needed.
      *
      * @param mContext
      */
     public FavoritesManager(Context mContext) {
         context = mContext;
-        connection = new MoviesDatabase(context).getWritableDatabase();
+        connection = MoviesDatabase.getInstance(context).acquireDatabase();
         movieTable = new MoviesTable(context, connection);
         reviewsTable = new ReviewsTable(context, connection);
         trailersTable = new TrailersTable(context, connection);
     }
 
+    /**
+     * Releases the shared database connection.
+     *
+     */
+    public void close() {
+        if (connection != null) {
+            connection = null;
+            MoviesDatabase.getInstance(context).releaseDatabase();
+        }
+    }
+
     /**
      * Checks if a given Movie has been added to the favorites.
      *
@@ -69,83 +90,92 @@ public class FavoritesManager {
      * @return
      */
     public boolean isFavorite(Movie movie) {
-        return movieTable.contains(movie);
+        return FavoriteMovieIds.getInstance(context).contains(movie.id);
     }
 
     /**
-     * Inserts a Movie into the users favorites.
+     * Inserts a Movie into the users favorites.  The movie, its reviews and its trailers are
+     * inserted as a single batch so that either all of them are stored or none of them are.
      *
      * @param movie
      */
     public void addFavorite(Movie movie, Review[] reviews, Trailer[] trailers) {
         if (!isFavorite(movie)) {
-            ContentValues cv = movieTable.getContentValues(movie);
-            Uri resUri = context.getContentResolver().insert(MoviesTable.MOVIE_CONTENT_URI, cv);
+            ArrayList<ContentProviderOperation> operations = new ArrayList<>();
+            operations.add(ContentProviderOperation.newInsert(MoviesTable.MOVIE_CONTENT_URI)
+                    .withValues(movieTable.getContentValues(movie))
+                    .build());
+
+            //  the reviews and trailers refer to the id of the movie inserted by the first operation
+            int movieOperationIndex = 0;
+            addReviewOperations(operations, reviews, movieOperationIndex);
+            addTrailerOperations(operations, trailers, movieOperationIndex);
+
+            try {
+                context.getContentResolver().applyBatch(MoviesDatabase.AUTHORITY, operations);
+            } catch (RemoteException | OperationApplicationException e) {
+                e.printStackTrace();
+                return;
+            }
 
-            long id = Long.parseLong(resUri.getLastPathSegment());
-            saveReviewsWithMovieId(reviews, id);
-            saveTrailersWithMovieId(trailers, id);
+            storeImages(movie);
         }
     }
 
     /**
-     * Saves a set of Trailer which is associated to a movie.
+     * Adds an insert operation for each Trailer which is associated to a movie being inserted
+     * within the same batch.
      *
+     * @param operations
      * @param trailers
-     * @param movieId
+     * @param movieOperationIndex Index of the operation which inserts the movie
      */
-    public void saveTrailersWithMovieId(Trailer[] trailers, long movieId) {
+    private void addTrailerOperations(ArrayList<ContentProviderOperation> operations, Trailer[] trailers, int movieOperationIndex) {
         if (trailers != null) {
-            for (int i = 0; i < trailers.length; ++i) {
-                saveTrailerWithMovieId(trailers[i], movieId);
+            for (Trailer trailer : trailers) {
+                operations.add(ContentProviderOperation.newInsert(TrailersTable.TRAILER_CONTENT_URI)
+                        .withValues(trailersTable.getContentValues(trailer))
+                        .withValueBackReference(TrailersTable.Cols.MOVIE_ID, movieOperationIndex)
+                        .build());
             }
         }
     }
 
     /**
-     * Adds a new Trailer to the database which is associated to a specific Movie.
-     *
-     * @param trailer
-     * @param movieId
-     *
-     * @return The id of the row in the database.
-     */
-    public long saveTrailerWithMovieId(Trailer trailer, long movieId) {
-        trailer.movieId = Long.toString(movieId);
-
-        ContentValues cv = trailersTable.getContentValues(trailer);
-        Uri res = context.getContentResolver().insert(TrailersTable.TRAILER_CONTENT_URI, cv);
-        return Long.parseLong(res.getLastPathSegment());
-    }
-
-    /**
-     * Saves a set of reviews into the database with the same movie item as its association.
+     * Adds an insert operation for each Review which is associated to a movie being inserted
+     * within the same batch.
      *
+     * @param operations
      * @param reviews
-     * @param movieId
+     * @param movieOperationIndex Index of the operation which inserts the movie
      */
-    public void saveReviewsWithMovieId(Review[] reviews, long movieId) {
+    private void addReviewOperations(ArrayList<ContentProviderOperation> operations, Review[] reviews, int movieOperationIndex) {
         if (reviews != null) {
-            for (int i = 0; i < reviews.length; ++i) {
-                saveReviewWithMovieId(reviews[i], movieId);
+            for (Review review : reviews) {
+                operations.add(ContentProviderOperation.newInsert(ReviewsTable.REVIEW_CONTENT_URI)
+                        .withValues(reviewsTable.getContentValues(review))
+                        .withValueBackReference(ReviewsTable.Cols.MOVIE_ID, movieOperationIndex)
+                        .build());
             }
         }
     }
 
     /**
-     * Inserts a new review record into the database with a specified movie as its association.
+     * Downloads the poster and backdrop of a favorite into the offline image store so that the
+     * favorites can be displayed without a network connection.
      *
-     * @param review
-     * @param movieId
-     *
-     * @return The id of the review in the database.
+     * @param movie
      */
-    public long saveReviewWithMovieId(Review review, long movieId) {
-        review.movieId = Long.toString(movieId);
+    private void storeImages(Movie movie) {
+        UrlManager urlManager = UrlManager.getInstance(context);
+        String posterUrl = (movie.posterPath != null) ?
+                urlManager.getMoviePosterUrlString(movie.posterPath) :
+                null;
+        String backdropUrl = (movie.backdropPath != null) ?
+                urlManager.getMovieBackdropUrlString(movie.backdropPath) :
+                null;
 
-        ContentValues cv = reviewsTable.getContentValues(review);
-        Uri res = context.getContentResolver().insert(ReviewsTable.REVIEW_CONTENT_URI, cv);
-        return Long.parseLong(res.getLastPathSegment());
+        OfflineImageStore.getInstance(context).store(movie.id, posterUrl, backdropUrl);
     }
 
     /**
@@ -154,19 +184,12 @@ public class FavoritesManager {
      * @param movie
      */
     public void removeFavorite(Movie movie) {
-        if (isFavorite(movie)) {
-            Uri uri;
-            long movieId = movieTable.getId(movie);
-            String idOfMovie = Long.toString(movieId);
-            ContentResolver cr = context.getContentResolver();
-
-            //  remove all associated data
-            cr.delete(ReviewsTable.REVIEW_CONTENT_URI, ReviewsTable.Cols.MOVIE_ID + "=?", new String[]{idOfMovie});
-            cr.delete(TrailersTable.TRAILER_CONTENT_URI, TrailersTable.Cols.MOVIE_ID + "=?", new String[]{idOfMovie});
-
-            //  delete the movie
-            uri = MoviesTable.MOVIE_CONTENT_URI.buildUpon().appendPath(idOfMovie).build();
-            cr.delete(uri, "_id=?", new String[]{idOfMovie});
+        //  the reviews and trailers of the movie are removed by the database along with it
+        ContentResolver cr = context.getContentResolver();
+        int numDeletedRows = cr.delete(MoviesTable.MOVIE_CONTENT_URI, MoviesTable.Cols.MOVIE_ID + "=?", new String[] {Integer.toString(movie.id)});
+
+        if (numDeletedRows > 0) {
+            OfflineImageStore.getInstance(context).remove(movie.id);
         }
     }
 
@@ -185,14 +208,36 @@ public class FavoritesManager {
      * @return true if there was at least one movie that was updated and false otherwise.
      */
     public boolean updateMovies() {
+        return updateMovies(null);
+    }
+
+    /**
+     * Will request updated information on all of the users favorite movies until the token is
+     * cancelled.
+     *
+     * @param token Stops the update when cancelled, or null
+     *
+     * @return true if there was at least one movie that was updated and false otherwise.
+     */
+    public boolean updateMovies(CancellationToken token) {
         boolean didUpdateOccur = false;
         Movie[] favorites = getFavorites();
         for (Movie favorite : favorites) {
+            if (token != null && token.isCancelled()) {
+                break;
+            }
+
             Movie updatedMovie = getLatestMovieInfo(favorite);
             if (updatedMovie != null && !favorite.equals(updatedMovie)) {
                 //  Should update the field in the database
                 updateMovie(favorite.dbId, updatedMovie);
                 didUpdateOccur = true;
+
+                //  replace the stored images when the server provides different ones
+                if (!TextUtils.equals(favorite.posterPath, updatedMovie.posterPath) ||
+                        !TextUtils.equals(favorite.backdropPath, updatedMovie.backdropPath)) {
+                    storeImages(updatedMovie);
+                }
             }
         }
 
@@ -211,8 +256,9 @@ public class FavoritesManager {
 
         try {
             String apiKey = context.getString(R.string.movie_scout_version_three_api_key);
-            UrlManager urlManager = new UrlManager(context);
-            URL movieUrl = urlManager.getMovieInformation(movie, apiKey);
+            UrlManager urlManager = UrlManager.getInstance(context);
+            //  only the fields of the movie are updated so its trailers and reviews are not requested
+            URL movieUrl = urlManager.getMovieUrl(movie, apiKey);
             String jsonResponse = NetworkManager.request(movieUrl);
             if (jsonResponse != null) {
                 JSONObject jsonObject = new JSONObject(jsonResponse);
@@ -236,9 +282,13 @@ public class FavoritesManager {
      * @param movie
      */
     public void updateMovie(long id, Movie movie) {
-        MoviesTable mt = new MoviesTable(context);
-        ContentValues cv = mt.getContentValues(movie);
-        Uri uri = MoviesTable.MOVIE_CONTENT_URI.buildUpon().appendPath(MoviesTable.Cols.MOVIE_ID).build();
-        context.getContentResolver().update(uri, cv, "_id=?", new String[] {Long.toString(id)});
+        String idOfMovie = Long.toString(id);
+        ContentValues cv = movieTable.getContentValues(movie);
+
+        //  the server id of a movie never changes, so the favorite movie ids remain valid
+        cv.remove(MoviesTable.Cols.MOVIE_ID);
+
+        Uri uri = MoviesTable.MOVIE_CONTENT_URI.buildUpon().appendPath(idOfMovie).build();
+        context.getContentResolver().update(uri, cv, "_id=?", new String[] {idOfMovie});
     }
 }
@@ -4,12 +4,14 @@
 
 package com.travistorres.moviescout.utils.widget.loaders;
 
-import android.support.v4.content.AsyncTaskLoader;
 import android.content.Context;
 import android.os.Bundle;
 
 import com.travistorres.moviescout.R;
 import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.tasks.ScheduledTaskLoader;
+import com.travistorres.moviescout.utils.tasks.TaskPool;
+import com.travistorres.moviescout.utils.tasks.TaskPriority;
 import com.travistorres.moviescout.utils.widget.FavoritesManager;
 
 /**
@@ -21,7 +23,7 @@ import com.travistorres.moviescout.utils.widget.FavoritesManager;
  * @version April 9, 2017
  */
 
-public class IsFavoriteMovieLoaderTask extends AsyncTaskLoader<Boolean[]> {
+public class IsFavoriteMovieLoaderTask extends ScheduledTaskLoader<Boolean[]> {
     private Bundle selectedMovieBundle;
 
     /**
@@ -31,7 +33,7 @@ public class IsFavoriteMovieLoaderTask extends AsyncTaskLoader<Boolean[]> {
      * @param movieBundle
      */
     public IsFavoriteMovieLoaderTask(Context context, Bundle movieBundle) {
-        super(context);
+        super(context, TaskPool.DISK, TaskPriority.VISIBLE);
 
         selectedMovieBundle = movieBundle;
     }
@@ -61,9 +63,13 @@ public class IsFavoriteMovieLoaderTask extends AsyncTaskLoader<Boolean[]> {
         if (selectedMovieBundle.containsKey(selectedMovieKey)) {
             Movie movie = selectedMovieBundle.getParcelable(selectedMovieKey);
             FavoritesManager favoritesManager = new FavoritesManager(context);
-            isFavorite = new Boolean[] {
-                favoritesManager.isFavorite(movie)
-            };
+            try {
+                isFavorite = new Boolean[] {
+                    favoritesManager.isFavorite(movie)
+                };
+            } finally {
+                favoritesManager.close();
+            }
         }
 
         return isFavorite;
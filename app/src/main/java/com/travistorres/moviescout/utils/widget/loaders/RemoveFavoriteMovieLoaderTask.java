@@ -6,10 +6,12 @@ package com.travistorres.moviescout.utils.widget.loaders;
 
 import android.content.Context;
 import android.os.Bundle;
-import android.support.v4.content.AsyncTaskLoader;
 
 import com.travistorres.moviescout.R;
 import com.travistorres.moviescout.utils.moviedb.models.Movie;
+import com.travistorres.moviescout.utils.tasks.ScheduledTaskLoader;
+import com.travistorres.moviescout.utils.tasks.TaskPool;
+import com.travistorres.moviescout.utils.tasks.TaskPriority;
 import com.travistorres.moviescout.utils.widget.FavoritesManager;
 
 /**
@@ -21,7 +23,7 @@ import com.travistorres.moviescout.utils.widget.FavoritesManager;
  * @version April 9, 2017
  */
 
-public class RemoveFavoriteMovieLoaderTask extends AsyncTaskLoader<Boolean[]> {
+public class RemoveFavoriteMovieLoaderTask extends ScheduledTaskLoader<Boolean[]> {
     private Bundle bundle;
 
     /**
@@ -31,7 +33,7 @@ public class RemoveFavoriteMovieLoaderTask extends AsyncTaskLoader<Boolean[]> {
      * @param movie
      */
     public RemoveFavoriteMovieLoaderTask(Context context, Bundle movie) {
-        super(context);
+        super(context, TaskPool.DISK, TaskPriority.VISIBLE);
 
         bundle = movie;
     }
@@ -60,9 +62,14 @@ public class RemoveFavoriteMovieLoaderTask extends AsyncTaskLoader<Boolean[]> {
         if (bundle.containsKey(movieKey)) {
             Movie movie = bundle.getParcelable(movieKey);
             FavoritesManager favoritesManager = new FavoritesManager(context);
-            boolean isFavorite = favoritesManager.isFavorite(movie);
-            if (isFavorite) {
-                favoritesManager.removeFavorite(movie);
+            boolean isFavorite;
+            try {
+                isFavorite = favoritesManager.isFavorite(movie);
+                if (isFavorite) {
+                    favoritesManager.removeFavorite(movie);
+                }
+            } finally {
+                favoritesManager.close();
             }
 
             wasRemoved = new Boolean[] {
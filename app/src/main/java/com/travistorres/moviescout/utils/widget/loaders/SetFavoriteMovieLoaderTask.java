@@ -6,12 +6,14 @@ package com.travistorres.moviescout.utils.widget.loaders;
 
 import android.content.Context;
 import android.os.Bundle;
-import android.support.v4.content.AsyncTaskLoader;
 
 import com.travistorres.moviescout.R;
 import com.travistorres.moviescout.utils.moviedb.models.Movie;
 import com.travistorres.moviescout.utils.moviedb.models.Review;
 import com.travistorres.moviescout.utils.moviedb.models.Trailer;
+import com.travistorres.moviescout.utils.tasks.ScheduledTaskLoader;
+import com.travistorres.moviescout.utils.tasks.TaskPool;
+import com.travistorres.moviescout.utils.tasks.TaskPriority;
 import com.travistorres.moviescout.utils.widget.FavoritesManager;
 
 /**
@@ -23,7 +25,7 @@ import com.travistorres.moviescout.utils.widget.FavoritesManager;
  * @version April, 9, 2017
  */
 
-public class SetFavoriteMovieLoaderTask extends AsyncTaskLoader<Boolean[]> {
+public class SetFavoriteMovieLoaderTask extends ScheduledTaskLoader<Boolean[]> {
     private Bundle movieBundle;
 
     /**
@@ -33,7 +35,7 @@ public class SetFavoriteMovieLoaderTask extends AsyncTaskLoader<Boolean[]> {
      * @param bundle
      */
     public SetFavoriteMovieLoaderTask(Context context, Bundle bundle) {
-        super(context);
+        super(context, TaskPool.DISK, TaskPriority.VISIBLE);
 
         movieBundle = bundle;
     }
@@ -63,12 +65,17 @@ public class SetFavoriteMovieLoaderTask extends AsyncTaskLoader<Boolean[]> {
         if (movieBundle.containsKey(selectedMovieKey)) {
             Movie movie = movieBundle.getParcelable(selectedMovieKey);
             FavoritesManager favoritesManager = new FavoritesManager(context);
-            boolean isFavorite = favoritesManager.isFavorite(movie);
-            if (!isFavorite) {
-                Review[] reviews = getReviews();
-                Trailer[] trailers = getTrailers();
-
-                favoritesManager.addFavorite(movie, reviews, trailers);
+            boolean isFavorite;
+            try {
+                isFavorite = favoritesManager.isFavorite(movie);
+                if (!isFavorite) {
+                    Review[] reviews = getReviews();
+                    Trailer[] trailers = getTrailers();
+
+                    favoritesManager.addFavorite(movie, reviews, trailers);
+                }
+            } finally {
+                favoritesManager.close();
             }
 
             results = new Boolean[] {